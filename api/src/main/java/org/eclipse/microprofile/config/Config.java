@@ -35,6 +35,8 @@ import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.Converter;
@@ -54,6 +56,11 @@ import org.eclipse.microprofile.config.spi.Converter;
  * {@link org.eclipse.microprofile.config.spi.Converter} which has the highest {@code @jakarta.annotation.Priority} is
  * used to convert the string value retrieved from the config sources.
  *
+ * <p>
+ * Lookups may be performed from any number of threads, including virtual threads. An implementation must not hold a
+ * monitor while it reads a {@linkplain ConfigSource configuration source} or converts a value, so that a virtual thread
+ * blocked during a lookup can always release its carrier thread.
+ *
  * <h2>Usage</h2>
  *
  * <p>
@@ -105,6 +112,14 @@ public interface Config {
      */
     String PROPERTY_EXPRESSIONS_ENABLED = "mp.config.property.expressions.enabled";
 
+    /**
+     * The value of the property determines whether lookup statistics are collected for each property. The value
+     * <code>true</code> means the statistics are collected and available via {@link #getMetrics()}.
+     *
+     * By default, the value is set to <code>false</code>.
+     */
+    String METRICS_ENABLED = "mp.config.metrics.enabled";
+
     /**
      * Return the resolved property value with the specified type for the specified property name from the underlying
      * {@linkplain ConfigSource configuration sources}.
@@ -144,6 +159,9 @@ public interface Config {
      * A {@link ConfigValue} is always returned even if a property name cannot be found. In this case, every method in
      * {@link ConfigValue} returns {@code null} except for {@link ConfigValue#getName()}, which includes the original
      * property name being looked up.
+     * <p>
+     * The returned {@link ConfigValue} may be shared with other lookups of the same property as long as the property
+     * does not change, and its expanded value may be computed lazily, as described in {@link ConfigValue}.
      *
      * @param propertyName
      *            The configuration property name
@@ -226,6 +244,67 @@ public interface Config {
         return getOptionalValue(propertyName, arrayType).map(Arrays::asList);
     }
 
+    /**
+     * Return the resolved property value with the specified type for the specified property name from the underlying
+     * {@linkplain ConfigSource configuration sources}, without blocking the calling thread.
+     * <p>
+     * The value is resolved with the same rules as {@link #getValue(String, Class)}, using
+     * {@link ConfigSource#getValueAsync(String)} to read the value of each configuration source. The returned stage
+     * completes exceptionally with a {@link java.util.NoSuchElementException} if the property does not exist, and with
+     * an {@link IllegalArgumentException} if the value cannot be converted to the specified type. Dependent stages
+     * may be executed by the thread which completes the read of a configuration source.
+     * <p>
+     * The default implementation is not asynchronous: it invokes {@link #getValue(String, Class)} on the calling
+     * thread, which is blocked while the configuration sources are read, and returns an already completed stage.
+     * Implementations of this specification must override it to compose the asynchronous reads of the configuration
+     * sources.
+     *
+     * @param <T>
+     *            The property type
+     * @param propertyName
+     *            The configuration property name
+     * @param propertyType
+     *            The type into which the resolved property value should be converted
+     * @return a stage completed with the resolved property value
+     */
+    default <T> CompletionStage<T> getValueAsync(String propertyName, Class<T> propertyType) {
+        try {
+            return CompletableFuture.completedFuture(getValue(propertyName, propertyType));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Return the resolved property value with the specified type for the specified property name from the underlying
+     * {@linkplain ConfigSource configuration sources}, without blocking the calling thread.
+     * <p>
+     * The value is resolved with the same rules as {@link #getOptionalValue(String, Class)}, using
+     * {@link ConfigSource#getValueAsync(String)} to read the value of each configuration source. The returned stage
+     * completes exceptionally with an {@link IllegalArgumentException} if the value cannot be converted to the
+     * specified type.
+     * <p>
+     * The default implementation is not asynchronous: it invokes {@link #getOptionalValue(String, Class)} on the
+     * calling thread, which is blocked while the configuration sources are read, and returns an already completed
+     * stage. Implementations of this specification must override it to compose the asynchronous reads of the
+     * configuration sources.
+     *
+     * @param <T>
+     *            The property type
+     * @param propertyName
+     *            The configuration property name
+     * @param propertyType
+     *            The type into which the resolved property value should be converted
+     * @return a stage completed with the resolved property value as an {@code Optional} wrapping the requested type
+     */
+    default <T> CompletionStage<Optional<T>> getOptionalValueAsync(String propertyName, Class<T> propertyType) {
+        try {
+            return CompletableFuture.completedFuture(getOptionalValue(propertyName, propertyType));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Returns a sequence of configuration property names. The order of the returned property names is unspecified.
      * <p>
@@ -274,6 +353,33 @@ public interface Config {
      */
     <T> Optional<Converter<T>> getConverter(Class<T> forType);
 
+    /**
+     * Return the per-property lookup statistics of this configuration.
+     * <p>
+     * The statistics are only available if the property {@value #METRICS_ENABLED} is set to {@code true}.
+     *
+     * @return an {@link Optional} containing the lookup statistics, or empty if the collection of statistics is not
+     *         enabled
+     */
+    default Optional<ConfigMetrics> getMetrics() {
+        return Optional.empty();
+    }
+
+    /**
+     * Return a read-only view of this configuration, pinned to the current state of its
+     * {@linkplain ConfigSource configuration sources}.
+     * <p>
+     * All the lookups performed on the returned snapshot resolve the values of the same state of each configuration
+     * source, which allows several related properties to be read consistently while the configuration sources change.
+     * Taking a snapshot must not block the concurrent lookups or changes of the configuration: the implementation
+     * obtains the state of each configuration source via {@link ConfigSource#snapshot()}, and releases it when the
+     * returned snapshot is {@linkplain ConfigSnapshot#close() closed}.
+     *
+     * @return a snapshot of this configuration, which should be closed after use
+     * @see ConfigSnapshot
+     */
+    ConfigSnapshot snapshot();
+
     /**
      * Returns an instance of the specific class, to allow access to the provider specific API.
      * <p>
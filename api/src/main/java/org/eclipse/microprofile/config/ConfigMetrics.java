@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-property lookup statistics of a {@link Config}.
+ * <p>
+ * The statistics are only collected if the property {@value Config#METRICS_ENABLED} is set to {@code true} in the
+ * configuration. They are intended to find the properties which are looked up most often or are the most expensive to
+ * look up, e.g. to decide which values should be stored rather than looked up repeatedly, and can be exported to a
+ * metrics registry.
+ * <p>
+ * Every lookup of a property via {@link Config#getValue(String, Class)},
+ * {@link Config#getOptionalValue(String, Class)}, {@link Config#getConfigValue(String)} and the methods derived from
+ * them is counted, including the lookups performed to inject configuration properties. A lookup is counted as a hit if
+ * a value was found and as a miss otherwise.
+ * <p>
+ * Implementations must collect the statistics without adding contention between threads looking up properties.
+ *
+ * @see Config#getMetrics()
+ * @since 3.2
+ */
+@org.osgi.annotation.versioning.ProviderType
+public interface ConfigMetrics {
+    /**
+     * Return the statistics of all the properties looked up since the statistics were last {@linkplain #reset()
+     * reset}.
+     *
+     * @return an immutable point-in-time copy of the statistics, keyed by property name
+     */
+    Map<String, PropertyMetrics> getPropertyMetrics();
+
+    /**
+     * Return the statistics of the specified property.
+     *
+     * @param propertyName
+     *            the property name
+     * @return the statistics of the property, or an empty {@link Optional} if the property was not looked up since
+     *         the statistics were last {@linkplain #reset() reset}
+     */
+    default Optional<PropertyMetrics> getPropertyMetrics(String propertyName) {
+        return Optional.ofNullable(getPropertyMetrics().get(propertyName));
+    }
+
+    /**
+     * Discard all the statistics collected so far.
+     */
+    void reset();
+}
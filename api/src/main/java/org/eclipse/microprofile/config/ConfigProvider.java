@@ -78,6 +78,9 @@ public final class ConfigProvider {
      * is already created and registered.
      * <p>
      * Each class loader corresponds to exactly one configuration.
+     * <p>
+     * Once the configuration of the class loader is created or registered, this method does not acquire any lock, so
+     * it may be called frequently and from many threads concurrently.
      *
      * @return the configuration instance for the thread context class loader
      */
@@ -92,6 +95,9 @@ public final class ConfigProvider {
      * already created and registered.
      * <p>
      * Each class loader corresponds to exactly one configuration.
+     * <p>
+     * Once the configuration of the class loader is created or registered, this method does not acquire any lock, so
+     * it may be called frequently and from many threads concurrently.
      *
      * @param cl
      *            the Classloader used to register the configuration instance
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * A read-only view of a {@link Config}, pinned to the state of its {@linkplain ConfigSource configuration sources} at
+ * the time the snapshot was taken.
+ * <p>
+ * A snapshot is obtained with {@link Config#snapshot()}. All the lookups performed on a snapshot, including the
+ * expansion of property expressions, resolve the values of the same state of each configuration source, even if the
+ * configuration sources change in the meantime. Several related properties, such as a user name and a password, can
+ * therefore be read consistently:
+ *
+ * <pre>
+ * try (ConfigSnapshot snapshot = config.snapshot()) {
+ *     String url = snapshot.getValue("db.url", String.class);
+ *     String user = snapshot.getValue("db.user", String.class);
+ *     String password = snapshot.getValue("db.password", String.class);
+ *     connect(url, user, password);
+ * }
+ * </pre>
+ * <p>
+ * The consistency of a snapshot relies on the {@link ConfigSource#snapshot()} method of each configuration source.
+ * The values of a configuration source which does not support snapshots may still change while the snapshot is open.
+ * <p>
+ * A snapshot is meant to be short-lived: it may retain the data of the configuration sources which was replaced after
+ * the snapshot was taken, until the snapshot is closed. Once closed, the lookup methods of the snapshot throw an
+ * {@link IllegalStateException}. A snapshot is thread safe, and closing it more than once has no effect.
+ *
+ * @since 3.2
+ */
+@org.osgi.annotation.versioning.ProviderType
+public interface ConfigSnapshot extends Config, AutoCloseable {
+    /**
+     * Return a view of this snapshot, pinned to the same state of the configuration sources.
+     * <p>
+     * The returned view does not own this state: closing it has no effect, neither on the view nor on this snapshot,
+     * and its lookup methods throw an {@link IllegalStateException} once this snapshot is closed. Code which receives a
+     * {@link Config} can therefore take and close a snapshot of it, e.g. with a try-with-resources statement, without
+     * closing the snapshot of its caller when the received {@code Config} is itself a snapshot.
+     *
+     * @return a view of this snapshot, whose {@link #close()} method has no effect
+     */
+    @Override
+    ConfigSnapshot snapshot();
+
+    /**
+     * Release the state of the configuration sources retained by this snapshot. Closing a snapshot does not close the
+     * configuration sources.
+     */
+    @Override
+    void close();
+}
@@ -20,12 +20,29 @@ package org.eclipse.microprofile.config;
 
 /**
  * The ConfigValue holds additional information after the lookup of a configuration property and is itself immutable.
+ * The only exception is its {@linkplain #getSourceLocation() source location}, described below.
  * <p>
  * Holds information about the configuration property name, configuration value, the
  * {@link org.eclipse.microprofile.config.spi.ConfigSource} name from where the configuration property was loaded and
  * the ordinal of the {@link org.eclipse.microprofile.config.spi.ConfigSource}.
  * <p>
  * This is used together with {@link Config} to expose the configuration property lookup metadata.
+ * <p>
+ * A {@code ConfigValue} holds the result of a lookup at the time the lookup was performed, and never reflects later
+ * changes of the configuration. The only exception is the {@linkplain #getSourceLocation() source location}, which is
+ * not part of the lookup result: it is obtained from the configuration source when it is requested, and may therefore
+ * reflect a later change of that configuration source. To limit the cost of lookups, implementations may:
+ * <ul>
+ * <li>return the same {@code ConfigValue} instance from several lookups of a property, as long as none of the
+ * attributes of the lookup result changed in between; a lookup performed after a change always returns a new
+ * instance. Callers must therefore not rely on the identity of a {@code ConfigValue}, e.g. to detect changes, nor
+ * synchronize on it;</li>
+ * <li>compute the expanded {@linkplain #getValue() value} lazily, on the first call to {@link #getValue()}, provided
+ * that the result is the value which would have been expanded when the lookup was performed, e.g. by expanding the
+ * raw value against a {@linkplain Config#snapshot() snapshot} of the configuration sources;</li>
+ * <li>return the same {@code String} instance from {@link #getValue()} and {@link #getRawValue()} when the raw value
+ * does not contain any property expression.</li>
+ * </ul>
  *
  * @since 2.0
  * @author <a href="mailto:radcortez@yahoo.com">Roberto Cortez</a>
@@ -65,4 +82,22 @@ public interface ConfigValue {
      * @return the ConfigSource ordinal that loaded the property lookup or {@code 0} if the property could not be found
      */
     int getSourceOrdinal();
+
+    /**
+     * The location of the property in the {@link org.eclipse.microprofile.config.spi.ConfigSource} that loaded the
+     * property lookup, as returned by {@link org.eclipse.microprofile.config.spi.ConfigSource#getLocation(String)},
+     * e.g. {@code /etc/myapp/config.properties:12}.
+     * <p>
+     * The location is not part of the lookup: implementations should only obtain it from the configuration source when
+     * this method is called, so that lookups do not pay for it. If the configuration source changed since the lookup,
+     * the returned location may therefore describe its new state, or be {@code null}.
+     * <p>
+     * The default implementation returns {@code null}.
+     *
+     * @return the location of the property in its ConfigSource, or {@code null} if the property could not be found or
+     *         its location is unknown
+     */
+    default String getSourceLocation() {
+        return null;
+    }
 }
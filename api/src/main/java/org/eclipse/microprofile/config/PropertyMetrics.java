@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config;
+
+import java.time.Duration;
+
+/**
+ * The lookup statistics of a single configuration property, as returned by {@link ConfigMetrics}.
+ * <p>
+ * Instances are immutable point-in-time copies of the statistics.
+ *
+ * @since 3.2
+ */
+@org.osgi.annotation.versioning.ProviderType
+public interface PropertyMetrics {
+    /**
+     * The name of the property.
+     *
+     * @return the name of the property
+     */
+    String getName();
+
+    /**
+     * The number of lookups of the property which found a value.
+     *
+     * @return the number of hits
+     */
+    long getHitCount();
+
+    /**
+     * The number of lookups of the property which did not find a value.
+     *
+     * @return the number of misses
+     */
+    long getMissCount();
+
+    /**
+     * The name of the {@link org.eclipse.microprofile.config.spi.ConfigSource} which provided the value in the most
+     * recent lookup which found a value.
+     *
+     * @return the configuration source name, or {@code null} if no lookup found a value
+     */
+    String getSourceName();
+
+    /**
+     * The average duration of a lookup of the property, including the conversion of the value.
+     *
+     * @return the average lookup duration, or {@link Duration#ZERO} if the property was not looked up
+     */
+    Duration getAverageLookupTime();
+
+    /**
+     * The average duration of the conversion of the property value by a
+     * {@link org.eclipse.microprofile.config.spi.Converter}. Lookups which do not convert the value, such as
+     * {@link Config#getConfigValue(String)}, are not taken into account.
+     *
+     * @return the average conversion duration, or {@link Duration#ZERO} if the value was never converted
+     */
+    Duration getAverageConversionTime();
+}
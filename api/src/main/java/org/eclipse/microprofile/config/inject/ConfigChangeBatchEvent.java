@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.inject;
+
+import java.util.List;
+
+/**
+ * A CDI event fired once for all the properties whose value changed after a single change notified by a
+ * configuration source.
+ * <p>
+ * The event is fired after the {@link ConfigChangeEvent} of each of these properties, with a {@link ConfigChanged}
+ * qualifier for each of their names and prefixes. An observer selecting a group of properties is therefore notified
+ * once, even if several properties of the group changed together, and can rebuild the state derived from the group
+ * only once:
+ *
+ * <pre>
+ * public void onPoolChange(&#064;Observes &#064;ConfigChanged("db.pool") ConfigChangeBatchEvent event) {
+ *     // invoked once when db.pool.size and db.pool.timeout change together
+ *     pool = createPool();
+ * }
+ * </pre>
+ *
+ * <p>
+ * Like {@link ConfigChangeEvent}, the event is fired to both synchronous and asynchronous observers, and is only fired
+ * if the value resolved for at least one property actually changed.
+ *
+ * @since 3.2
+ */
+public interface ConfigChangeBatchEvent {
+    /**
+     * The changes of all the properties whose value changed, including the properties which are not selected by the
+     * qualifier of the observer.
+     *
+     * @return the changes, never empty
+     */
+    List<ConfigChangeEvent> getChanges();
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.inject;
+
+import org.eclipse.microprofile.config.ConfigValue;
+
+/**
+ * A CDI event fired when the value of a configuration property changes.
+ * <p>
+ * The event is fired once per changed property, with a {@link ConfigChanged} qualifier for the property name and for
+ * each of its prefixes, so that observers can select the changes they are interested in:
+ *
+ * <pre>
+ * public void onPoolChange(&#064;Observes &#064;ConfigChanged("db.pool") ConfigChangeEvent event) {
+ *     // invoked for changes of db.pool.size, db.pool.timeout, ...
+ *     pool = createPool();
+ * }
+ * </pre>
+ *
+ * <p>
+ * The event is fired to both synchronous and asynchronous observers, after the new value can be looked up from the
+ * {@link org.eclipse.microprofile.config.Config}. It is only fired if the value resolved for the property actually
+ * changed, and only for changes which are
+ * {@linkplain org.eclipse.microprofile.config.spi.ConfigSourceChangeListener notified} by the configuration sources.
+ * A {@link ConfigChangeBatchEvent} is also fired once for all the properties changed by the same notification.
+ * <p>
+ * Since the event is fired after the configuration sources changed, the implementation has to keep the last resolved
+ * value of each property whose changes may be observed, in order to detect whether the value changed and to provide
+ * the {@linkplain #getOldValue() old value}. This costs memory proportional to the number of these properties. The
+ * implementation should only keep the values of the properties selected by the qualifier of at least one observer,
+ * so that observing a narrow prefix rather than every change limits this cost.
+ *
+ * @since 3.2
+ */
+public interface ConfigChangeEvent {
+    /**
+     * The name of the changed property.
+     *
+     * @return the name of the property
+     */
+    String getName();
+
+    /**
+     * The value of the property before the change, as kept by the implementation since it was last resolved. If the
+     * property was not defined before the change, {@link ConfigValue#getValue()} of the returned instance is
+     * {@code null}.
+     *
+     * @return the previous value of the property
+     */
+    ConfigValue getOldValue();
+
+    /**
+     * The value of the property after the change. If the property was removed, {@link ConfigValue#getValue()} of the
+     * returned instance is {@code null}.
+     *
+     * @return the new value of the property
+     */
+    ConfigValue getNewValue();
+}
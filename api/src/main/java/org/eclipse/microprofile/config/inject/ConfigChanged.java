@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.inject;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Qualifier;
+
+/**
+ * Selects the {@link ConfigChangeEvent} events of a property or of a group of properties.
+ * <p>
+ * A {@link ConfigChangeEvent} for the property {@code db.pool.size} is fired with the qualifiers
+ * {@code @ConfigChanged("db.pool.size")}, {@code @ConfigChanged("db.pool")} and {@code @ConfigChanged("db")}.
+ * Therefore, an observer qualified with a property name is notified of the changes of this property only, while an
+ * observer qualified with a prefix is notified of the changes of all the properties starting with this prefix followed
+ * by a dot. An observer without qualifier is notified of every change.
+ *
+ * <h2>Example</h2>
+ *
+ * <pre>
+ * public void onTimeoutChange(&#064;Observes &#064;ConfigChanged("server.timeout") ConfigChangeEvent event) {
+ *     timeout = Duration.parse(event.getNewValue().getValue());
+ * }
+ * </pre>
+ *
+ * @since 3.2
+ */
+@Target({METHOD, FIELD, PARAMETER, TYPE})
+@Retention(RUNTIME)
+@Documented
+@Qualifier
+@Repeatable(ConfigChanged.List.class)
+public @interface ConfigChanged {
+    /**
+     * The name of the property, or the prefix of the properties, whose changes are selected.
+     *
+     * @return the property name or prefix
+     */
+    String value();
+
+    /**
+     * Support inline instantiation of the {@link ConfigChanged} qualifier.
+     */
+    final class Literal extends AnnotationLiteral<ConfigChanged> implements ConfigChanged {
+        private static final long serialVersionUID = 1L;
+        /**
+         * The name of the property, or the prefix of the properties, whose changes are selected.
+         */
+        private final String value;
+
+        /**
+         * Create a {@link ConfigChanged} qualifier selecting the changes of the specified property, or of the
+         * properties starting with the specified prefix.
+         *
+         * @param value
+         *            the property name or prefix
+         * @return the qualifier
+         */
+        public static Literal of(String value) {
+            return new Literal(value);
+        }
+
+        private Literal(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+    }
+
+    /**
+     * Allows the {@link ConfigChanged} qualifier to be repeated.
+     */
+    @Target({METHOD, FIELD, PARAMETER, TYPE})
+    @Retention(RUNTIME)
+    @Documented
+    @interface List {
+        /**
+         * The repeated qualifiers.
+         *
+         * @return the qualifiers
+         */
+        ConfigChanged[] value();
+    }
+}
@@ -35,6 +35,10 @@ import jakarta.inject.Qualifier;
 /**
  * Retrieve a number of related configuration properties with the specified prefix into a property class. This class
  * should contain a zero-arg constructor. Otherwise, non-portable behaviour occurs.
+ * <p>
+ * The properties mapped by a class only depend on the class and on the prefix. An implementation may resolve the
+ * property names, converters and field accessors once for each class and prefix, and reuse them to populate every
+ * instance of the class.
  *
  * <h2>Example</h2>
  *
@@ -53,6 +57,56 @@ import jakarta.inject.Qualifier;
  * }
  * </pre>
  *
+ * <p>
+ * The annotation may also be placed on an interface, or on a record. The implementation then provides an immutable
+ * instance, holding the values resolved at creation. For an interface, each abstract method without parameters maps to
+ * the property named after the method; for a record, each record component maps to the property named after the
+ * component.
+ *
+ * <pre>
+ * &#064;ConfigProperties(prefix = "server")
+ * public interface ServerConfig {
+ *     String host(); // maps to the property name server.host
+ *     int port(); // maps to the property name server.port
+ *     &#064;ConfigProperty(defaultValue = "8")
+ *     int threads(); // maps to the property name server.threads
+ * }
+ * </pre>
+ *
+ * <p>
+ * A field whose type has no applicable converter, and which is a class, an interface or a record, is bound as a nested
+ * group, using the property name of the field as its prefix. A field of type {@code Map<String, G>} or
+ * {@code List<G>}, where {@code G} is such a group type, binds one group for each key {@code k} of the properties
+ * {@code <prefix>.<name>.k.*}, or for each index {@code i} of the properties {@code <prefix>.<name>[i].*}.
+ * <p>
+ * A nested group is present if at least one property {@code <prefix>.<name>.*} exists; the default values of the
+ * fields of the group do not make it present. A missing group is bound to an empty {@code Optional} if the field is an
+ * {@code Optional} of the group type, and is otherwise handled like a missing property, i.e. it is an error. A missing
+ * map or list of groups is bound to an empty map or list.
+ *
+ * <pre>
+ * &#064;ConfigProperties(prefix = "server")
+ * &#064;Dependent
+ * public class MyServer {
+ *     public Tls tls; // maps the property names server.tls.*
+ *     public Map&lt;String, Pool&gt; pools; // maps the property names server.pools.&lt;name&gt;.*
+ *     public List&lt;Endpoint&gt; endpoints; // maps the property names server.endpoints[&lt;index&gt;].*
+ * }
+ * </pre>
+ *
+ * <p>
+ * A {@code java.util.function.Supplier} of the annotated type may be injected with this qualifier to observe the
+ * changes of the configuration. Each invocation of {@code Supplier#get()} returns an instance holding the values of a
+ * single state of the configuration, even under concurrent changes: an instance mixing the values of several states
+ * is never returned. When the configuration changes, the whole group is bound again into a new instance, which is then
+ * published atomically; a returned instance is never modified.
+ *
+ * <pre>
+ * &#064;Inject
+ * &#064;ConfigProperties(prefix = "db")
+ * Supplier&lt;DataSourceConfig&gt; dataSourceConfig;
+ * </pre>
+ *
  * @since 2.0
  * @author <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  */
@@ -103,6 +103,13 @@ import jakarta.inject.Qualifier;
  * </pre>
  *
  * <p>
+ * A {@code java.util.function.Supplier<T>} may be injected in the same way. Invocations of {@code Provider#get()} and
+ * {@code Supplier#get()} may return a previously converted value instead of resolving it again, as long as every
+ * {@link org.eclipse.microprofile.config.spi.ConfigSource} of the configuration reports the same
+ * {@linkplain org.eclipse.microprofile.config.spi.ConfigSource#getVersion() version} as when the value was resolved.
+ * The value is always resolved again if any configuration source does not track its version.
+ *
+ * <p>
  * If {@code ConfigProperty} is used with a type where no {@link org.eclipse.microprofile.config.spi.Converter} exists,
  * a deployment error will be thrown.
  *
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Recorded when a configured value is converted by a {@link org.eclipse.microprofile.config.spi.Converter}.
+ * <p>
+ * The duration of the event covers the call to {@link org.eclipse.microprofile.config.spi.Converter#convert(String)}.
+ *
+ * @since 3.2
+ */
+@Name(ConfigConversionEvent.NAME)
+@Label("Config Conversion")
+@Description("Conversion of a configured value")
+@Category({"MicroProfile", "Config"})
+@Threshold("1 ms")
+@StackTrace(true)
+public final class ConfigConversionEvent extends Event {
+    /**
+     * The name of the event type, "{@code org.eclipse.microprofile.config.Conversion}".
+     */
+    public static final String NAME = "org.eclipse.microprofile.config.Conversion";
+
+    @Label("Property Name")
+    @Description("Name of the converted property, or null if the conversion is not related to a property lookup")
+    private String propertyName;
+
+    @Label("Target Type")
+    private Class<?> targetType;
+
+    @Label("Converter Class")
+    private Class<?> converterClass;
+
+    /**
+     * Set the name of the property whose value is converted.
+     *
+     * @param propertyName
+     *            the property name, or {@code null} if the conversion is not related to a property lookup
+     */
+    public void setPropertyName(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Set the type the value is converted to.
+     *
+     * @param targetType
+     *            the target type
+     */
+    public void setTargetType(Class<?> targetType) {
+        this.targetType = targetType;
+    }
+
+    /**
+     * Set the class of the converter performing the conversion.
+     *
+     * @param converterClass
+     *            the converter class
+     */
+    public void setConverterClass(Class<?> converterClass) {
+        this.converterClass = converterClass;
+    }
+}
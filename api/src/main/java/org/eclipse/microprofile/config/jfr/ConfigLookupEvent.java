@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Recorded when a configuration property is looked up via {@link org.eclipse.microprofile.config.Config}, e.g. by
+ * {@link org.eclipse.microprofile.config.Config#getValue(String, Class)} or
+ * {@link org.eclipse.microprofile.config.Config#getConfigValue(String)}.
+ * <p>
+ * The duration of the event covers the whole lookup, including reading the configuration sources, expanding property
+ * expressions and converting the value.
+ *
+ * @since 3.2
+ */
+@Name(ConfigLookupEvent.NAME)
+@Label("Config Lookup")
+@Description("Lookup of a configuration property")
+@Category({"MicroProfile", "Config"})
+@Threshold("1 ms")
+@StackTrace(true)
+public final class ConfigLookupEvent extends Event {
+    /**
+     * The name of the event type, "{@code org.eclipse.microprofile.config.Lookup}".
+     */
+    public static final String NAME = "org.eclipse.microprofile.config.Lookup";
+
+    @Label("Property Name")
+    private String propertyName;
+
+    @Label("Property Type")
+    private Class<?> propertyType;
+
+    @Label("Source Name")
+    @Description("Name of the configuration source which provided the value, or null if the property was not found")
+    private String sourceName;
+
+    @Label("Found")
+    private boolean found;
+
+    /**
+     * Set the name of the looked up property.
+     *
+     * @param propertyName
+     *            the property name
+     */
+    public void setPropertyName(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Set the type the looked up property is converted to.
+     *
+     * @param propertyType
+     *            the property type, or {@code null} if the value is not converted
+     */
+    public void setPropertyType(Class<?> propertyType) {
+        this.propertyType = propertyType;
+    }
+
+    /**
+     * Set the name of the configuration source which provided the value.
+     *
+     * @param sourceName
+     *            the configuration source name, or {@code null} if the property was not found
+     */
+    public void setSourceName(String sourceName) {
+        this.sourceName = sourceName;
+    }
+
+    /**
+     * Set whether a value was found for the property.
+     *
+     * @param found
+     *            {@code true} if a value was found
+     */
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+}
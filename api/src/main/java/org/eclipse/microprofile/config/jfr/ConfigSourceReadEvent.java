@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Recorded when a value is read from a {@link org.eclipse.microprofile.config.spi.ConfigSource}.
+ * <p>
+ * The duration of the event covers the call to
+ * {@link org.eclipse.microprofile.config.spi.ConfigSource#getValue(String)}, which allows identifying slow (e.g.
+ * remote) configuration sources without wrapping them.
+ *
+ * @since 3.2
+ */
+@Name(ConfigSourceReadEvent.NAME)
+@Label("Config Source Read")
+@Description("Read of a property from a configuration source")
+@Category({"MicroProfile", "Config"})
+@Threshold("1 ms")
+@StackTrace(true)
+public final class ConfigSourceReadEvent extends Event {
+    /**
+     * The name of the event type, "{@code org.eclipse.microprofile.config.SourceRead}".
+     */
+    public static final String NAME = "org.eclipse.microprofile.config.SourceRead";
+
+    @Label("Source Name")
+    private String sourceName;
+
+    @Label("Property Name")
+    private String propertyName;
+
+    @Label("Found")
+    private boolean found;
+
+    /**
+     * Set the name of the configuration source which was read.
+     *
+     * @param sourceName
+     *            the configuration source name
+     */
+    public void setSourceName(String sourceName) {
+        this.sourceName = sourceName;
+    }
+
+    /**
+     * Set the name of the read property.
+     *
+     * @param propertyName
+     *            the property name
+     */
+    public void setPropertyName(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Set whether the configuration source provided a value for the property.
+     *
+     * @param found
+     *            {@code true} if the configuration source returned a non-{@code null} value
+     */
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+}
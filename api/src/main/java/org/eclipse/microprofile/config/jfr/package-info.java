@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Java Flight Recorder events for MicroProfile Config.
+ *
+ * <p>
+ * The events in this package are emitted by the implementation when looking up a configuration property, when
+ * converting a configured value and when reading a value from a
+ * {@link org.eclipse.microprofile.config.spi.ConfigSource}. Each event type declares a default
+ * {@linkplain jdk.jfr.Threshold threshold}, so only slow operations are recorded unless a different threshold is
+ * configured in the recording settings, e.g.:
+ *
+ * <pre>
+ * jcmd &lt;pid&gt; JFR.start settings=profile +org.eclipse.microprofile.config.SourceRead#threshold=0ms
+ * </pre>
+ *
+ * <p>
+ * An implementation emits the events in the following way, which keeps the cost of a disabled event to a single
+ * check:
+ *
+ * <pre>
+ * ConfigSourceReadEvent event = new ConfigSourceReadEvent();
+ * event.begin();
+ * String value = source.getValue(propertyName);
+ * if (event.shouldCommit()) {
+ *     event.setSourceName(source.getName());
+ *     event.setPropertyName(propertyName);
+ *     event.setFound(value != null);
+ *     event.commit();
+ * }
+ * </pre>
+ *
+ * @since 3.2
+ */
+@org.osgi.annotation.versioning.Version("1.0")
+package org.eclipse.microprofile.config.jfr;
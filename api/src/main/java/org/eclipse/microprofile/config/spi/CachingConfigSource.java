@@ -0,0 +1,759 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.spi;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * A {@link ConfigSource} which caches the values of another configuration source, typically one reading a remote
+ * store, so that lookups are served from memory.
+ * <p>
+ * Each cached value, including the absence of a value, and the cached set of property names go through three states,
+ * depending on the time elapsed since they were loaded from the delegate configuration source:
+ * <ul>
+ * <li><em>fresh</em>, until the {@linkplain Builder#timeToLive(Duration) time to live} has elapsed: the cached value
+ * is returned;</li>
+ * <li><em>stale</em>, during the following {@linkplain Builder#maxStaleness(Duration) maximum staleness}: the cached
+ * value is returned immediately, and is reloaded in the background on the {@linkplain Builder#executor(Executor)
+ * executor};</li>
+ * <li><em>expired</em>, afterwards: the value is reloaded before being returned.</li>
+ * </ul>
+ * <p>
+ * A value is never loaded more than once at the same time: concurrent lookups of a value being loaded wait for the
+ * same load. If the delegate fails to load a value which was loaded before, the last known good value is returned,
+ * whatever its age, and the load is attempted again by the next lookup; if the value was never loaded, the failure
+ * is propagated. The number of cached values is bounded by the {@linkplain Builder#maxSize(int) maximum size}; when it
+ * is exceeded, the expired values are evicted first, and then arbitrary values.
+ * <p>
+ * The {@linkplain #getVersion() version} of this configuration source changes whenever a reload returns a different
+ * value, and whenever a value is evicted; the registered {@linkplain #addChangeListener(ConfigSourceChangeListener)
+ * change listeners} are notified of the reloaded values which changed. If the delegate configuration source notifies
+ * its own changes, the affected values are evicted, and the notification is forwarded; the affected values which were
+ * being loaded at that time are returned to the lookups waiting for them, but are not cached.
+ * <p>
+ * The cached values may also be {@linkplain Builder#persistTo(Path) persisted to a local file}, so that they can be
+ * served immediately after a restart, even if the delegate is slow or unavailable. The values read from the file are
+ * considered stale: they are returned by the first lookups, while being reloaded from the delegate.
+ * <p>
+ * The name and the ordinal of this configuration source are those of the delegate. Closing this configuration source
+ * closes the delegate if it implements {@link AutoCloseable}.
+ *
+ * <pre>
+ * ConfigSource remote = CachingConfigSource.builder(new RemoteConfigSource())
+ *         .timeToLive(Duration.ofMinutes(1))
+ *         .maxStaleness(Duration.ofMinutes(10))
+ *         .executor(executor)
+ *         .build();
+ * </pre>
+ *
+ * @since 3.2
+ */
+public final class CachingConfigSource implements ConfigSource, AutoCloseable {
+    private static final Object NAMES_KEY = new Object();
+    private static final String HEADER_PREFIX = "# CachingConfigSource";
+    // cannot be written by Properties#store, which escapes a key starting with '#'
+    private static final String NAMES_MARKER = "# CachingConfigSource property names";
+
+    private final ConfigSource delegate;
+    private final long timeToLiveNanos;
+    private final long maxStalenessNanos;
+    private final int maxSize;
+    private final Executor executor;
+    private final Path file;
+
+    private final Map<String, Entry> values = new ConcurrentHashMap<>();
+    private final AtomicReference<Entry> names = new AtomicReference<>();
+    private final Map<Object, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final List<ConfigSourceChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final ConfigSourceChangeListener delegateListener = this::delegateChanged;
+    private final AtomicBoolean persistScheduled = new AtomicBoolean();
+    // a Lock rather than a monitor, so that a virtual thread writing the file does not pin its carrier thread
+    private final Lock persistLock = new ReentrantLock();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private CachingConfigSource(Builder builder) {
+        this.delegate = builder.delegate;
+        this.timeToLiveNanos = builder.timeToLive.toNanos();
+        this.maxStalenessNanos = builder.maxStaleness.toNanos();
+        this.maxSize = builder.maxSize;
+        this.executor = builder.executor;
+        this.file = builder.file;
+        if (file != null) {
+            restore();
+        }
+    }
+
+    /**
+     * Create a builder of a configuration source caching the values of the specified configuration source.
+     *
+     * @param delegate
+     *            the configuration source whose values are cached (must not be {@code null})
+     * @return a new builder
+     */
+    public static Builder builder(ConfigSource delegate) {
+        return new Builder(Objects.requireNonNull(delegate, "delegate"));
+    }
+
+    /**
+     * Return the cached value of the specified property, loading it from the delegate configuration source if it is
+     * not cached or has expired.
+     *
+     * @param propertyName
+     *            the property name
+     * @return the property value, or {@code null} if the property is not present
+     */
+    @Override
+    public String getValue(String propertyName) {
+        return (String) get(propertyName, values.get(propertyName));
+    }
+
+    /**
+     * Return the cached value of the specified property. If the value is not cached or has expired, it is loaded on
+     * the {@linkplain Builder#executor(Executor) executor}, using the asynchronous lookup of the delegate
+     * configuration source, and the calling thread is not blocked.
+     *
+     * @param propertyName
+     *            the property name
+     * @return a stage completed with the property value, or with {@code null} if the property is not present
+     */
+    @Override
+    public CompletionStage<String> getValueAsync(String propertyName) {
+        Entry entry = values.get(propertyName);
+        long now = System.nanoTime();
+        if (entry != null && !entry.isExpired(now)) {
+            if (entry.isStale(now)) {
+                load(propertyName, true);
+            }
+            return CompletableFuture.completedFuture((String) entry.value);
+        }
+        return load(propertyName, true).handle((loaded, failure) -> {
+            if (failure == null) {
+                return (String) loaded.value;
+            }
+            if (entry != null) {
+                return (String) entry.value;
+            }
+            throw failure instanceof CompletionException ? (CompletionException) failure
+                    : new CompletionException(failure);
+        });
+    }
+
+    /**
+     * Return the cached property names of the delegate configuration source, loading them if they are not cached or
+     * have expired.
+     *
+     * @return the property names
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<String> getPropertyNames() {
+        return (Set<String>) get(NAMES_KEY, names.get());
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Return a view of the values and of the property names currently cached, which does not change when values are
+     * reloaded, invalidated or evicted. The values which are not cached, and the property names if they are not cached,
+     * are read from a {@linkplain ConfigSource#snapshot() snapshot} of the delegate configuration source taken at the
+     * same time, and are not cached.
+     * <p>
+     * Taking a snapshot does not block, but copies the references to the cached values: its cost is proportional to
+     * the number of cached values, which is bounded by the {@linkplain Builder#maxSize(int) maximum size}.
+     *
+     * @return a view of the current state of the cache
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ConfigSource snapshot() {
+        long currentVersion = version.get();
+        ConfigSource delegateSnapshot = delegate.snapshot();
+        Map<String, String> cached = new HashMap<>();
+        for (Map.Entry<String, Entry> entry : values.entrySet()) {
+            cached.put(entry.getKey(), (String) entry.getValue().value);
+        }
+        Entry namesEntry = names.get();
+        Set<String> cachedNames = namesEntry == null ? null : (Set<String>) namesEntry.value;
+        String name = getName();
+        int ordinal = getOrdinal();
+        return new ConfigSource() {
+            @Override
+            public Set<String> getPropertyNames() {
+                return cachedNames != null ? cachedNames : delegateSnapshot.getPropertyNames();
+            }
+
+            @Override
+            public String getValue(String propertyName) {
+                // a cached absence of value is held as a null value
+                return cached.containsKey(propertyName) ? cached.get(propertyName)
+                        : delegateSnapshot.getValue(propertyName);
+            }
+
+            @Override
+            public String getLocation(String propertyName) {
+                return delegateSnapshot.getLocation(propertyName);
+            }
+
+            @Override
+            public long getVersion() {
+                return currentVersion;
+            }
+
+            @Override
+            public int getOrdinal() {
+                return ordinal;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    @Override
+    public boolean addChangeListener(ConfigSourceChangeListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+        return true;
+    }
+
+    @Override
+    public void removeChangeListener(ConfigSourceChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Return the location of the specified property in the delegate configuration source. The location is not
+     * cached, and may therefore describe a value more recent than the cached one.
+     *
+     * @param propertyName
+     *            the property name
+     * @return the location of the property in the delegate configuration source, or {@code null} if it is unknown
+     */
+    @Override
+    public String getLocation(String propertyName) {
+        return delegate.getLocation(propertyName);
+    }
+
+    @Override
+    public int getOrdinal() {
+        return delegate.getOrdinal();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    /**
+     * Discard the cached values, and close the delegate configuration source if it implements {@link AutoCloseable}.
+     * If the values are {@linkplain Builder#persistTo(Path) persisted}, they are written to the file first, and a
+     * pending write is cancelled. Closing an already closed configuration source has no effect.
+     * <p>
+     * The lookups performed after this configuration source is closed are delegated to the delegate configuration
+     * source, and the loaded values are neither cached nor persisted.
+     *
+     * @throws IllegalStateException
+     *             if the delegate configuration source cannot be closed
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        delegate.removeChangeListener(delegateListener);
+        if (file != null) {
+            // a pending write, seeing the configuration source closed, is cancelled once this final write is done
+            persistLock.lock();
+            try {
+                persist();
+            } finally {
+                persistLock.unlock();
+            }
+        }
+        values.clear();
+        names.set(null);
+        if (delegate instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) delegate).close();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("The delegate configuration source cannot be closed", e);
+            }
+        }
+    }
+
+    private Object get(Object key, Entry entry) {
+        long now = System.nanoTime();
+        if (entry != null && !entry.isExpired(now)) {
+            if (entry.isStale(now)) {
+                load(key, true);
+            }
+            return entry.value;
+        }
+        try {
+            return load(key, false).join().value;
+        } catch (CompletionException e) {
+            if (entry != null) {
+                return entry.value;
+            }
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Entry> load(Object key, boolean async) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = loading.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        Runnable task = () -> {
+            try {
+                created.complete(fetch(key, created));
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+            } finally {
+                loading.remove(key, created);
+            }
+        };
+        if (!async) {
+            task.run();
+        } else if (key == NAMES_KEY) {
+            executor.execute(task);
+        } else {
+            // the asynchronous lookup of the delegate is used, so that the executor is not blocked by remote reads
+            executor.execute(() -> delegate.getValueAsync((String) key).whenComplete((value, failure) -> {
+                try {
+                    if (failure == null) {
+                        created.complete(store((String) key, value, created));
+                    } else {
+                        created.completeExceptionally(failure);
+                    }
+                } catch (RuntimeException | Error e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    loading.remove(key, created);
+                }
+            }));
+        }
+        return created;
+    }
+
+    private Entry fetch(Object key, CompletableFuture<Entry> load) {
+        if (key == NAMES_KEY) {
+            Entry entry = new Entry(Collections.unmodifiableSet(new HashSet<>(delegate.getPropertyNames())));
+            Entry previous = names.getAndSet(entry);
+            if (closed.get() || !isCurrent(NAMES_KEY, load)) {
+                names.compareAndSet(entry, null);
+                return entry;
+            }
+            if (previous != null && !previous.value.equals(entry.value)) {
+                changed(Collections.emptySet());
+                schedulePersist();
+            } else if (previous == null) {
+                schedulePersist();
+            }
+            return entry;
+        }
+        return store((String) key, delegate.getValue((String) key), load);
+    }
+
+    /**
+     * Cache the value loaded by the specified load, unless the value was invalidated by the delegate configuration
+     * source while it was being loaded, or this configuration source was closed. The loaded value is then returned to
+     * the lookups waiting for it, but is not cached, so that the next lookup loads the value again.
+     */
+    private Entry store(String propertyName, String value, CompletableFuture<Entry> load) {
+        Entry entry = new Entry(value);
+        Entry previous = values.put(propertyName, entry);
+        // checked after caching the value, so that either the check or the cleanup of close() discards it
+        if (closed.get() || !isCurrent(propertyName, load)) {
+            values.remove(propertyName, entry);
+            return entry;
+        }
+        if (previous != null && !Objects.equals(previous.value, value)) {
+            changed(Collections.singleton(propertyName));
+            schedulePersist();
+        } else if (previous == null) {
+            if (values.size() > maxSize) {
+                evict();
+            }
+            schedulePersist();
+        }
+        return entry;
+    }
+
+    /**
+     * Whether the specified load is still the current load of the key, i.e. whether the key was not invalidated since
+     * the load started. The in-flight load of a key acts as its generation: an invalidation discards it, before
+     * discarding the cached value, so that checking it after caching the loaded value is enough to detect a race.
+     */
+    private boolean isCurrent(Object key, CompletableFuture<Entry> load) {
+        return loading.get(key) == load;
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        values.values().removeIf(entry -> entry.isExpired(now));
+        Iterator<Entry> iterator = values.values().iterator();
+        while (values.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        version.incrementAndGet();
+    }
+
+    private void schedulePersist() {
+        if (file != null && !closed.get() && persistScheduled.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                persistScheduled.set(false);
+                persistLock.lock();
+                try {
+                    if (!closed.get()) {
+                        persist();
+                    }
+                } finally {
+                    persistLock.unlock();
+                }
+            });
+        }
+    }
+
+    /**
+     * Write the non-null cached values to the file, followed by the cached property names, if any, and preceded by a
+     * header holding the CRC-32 checksum of the content and the version. The file is replaced atomically, so that a
+     * reader never sees a partially written file. The caller must hold the persist lock, so that an older content
+     * never replaces a newer one.
+     */
+    @SuppressWarnings("unchecked")
+    private void persist() {
+        Entry namesEntry = names.get();
+        Properties properties = new Properties();
+        for (Map.Entry<String, Entry> entry : values.entrySet()) {
+            if (entry.getValue().value != null) {
+                properties.setProperty(entry.getKey(), (String) entry.getValue().value);
+            }
+        }
+        try {
+            StringWriter content = new StringWriter();
+            properties.store(content, null);
+            if (namesEntry != null) {
+                Properties propertyNames = new Properties();
+                for (String propertyName : (Set<String>) namesEntry.value) {
+                    propertyNames.setProperty(propertyName, "");
+                }
+                content.write(NAMES_MARKER + "\n");
+                propertyNames.store(content, null);
+            }
+            byte[] body = content.toString().getBytes(StandardCharsets.UTF_8);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            String header = HEADER_PREFIX + " crc32=" + Long.toHexString(crc.getValue()) + " version="
+                    + version.get() + "\n";
+
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temporary, header.getBytes(StandardCharsets.UTF_8));
+                Files.write(temporary, body, StandardOpenOption.APPEND);
+                try {
+                    Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            // the values stay cached in memory, and the file is written again on the next change
+        }
+    }
+
+    /**
+     * Read the values persisted to the file, if it exists and its checksum is valid. The values are restored as stale
+     * entries, so that they are returned immediately but reloaded by the first lookups. The property names are only
+     * restored if they were cached when the file was written: the names of the persisted values are only those which
+     * were looked up, and the property names are otherwise loaded from the delegate by the first lookup.
+     */
+    private void restore() {
+        String content;
+        try {
+            if (!Files.isRegularFile(file)) {
+                return;
+            }
+            content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return;
+        }
+        int endOfHeader = content.indexOf('\n');
+        if (endOfHeader < 0 || !content.startsWith(HEADER_PREFIX + " ")) {
+            return;
+        }
+        String crc32 = null;
+        long persistedVersion = -1;
+        for (String attribute : content.substring(HEADER_PREFIX.length() + 1, endOfHeader).trim().split(" ")) {
+            if (attribute.startsWith("crc32=")) {
+                crc32 = attribute.substring("crc32=".length());
+            } else if (attribute.startsWith("version=")) {
+                try {
+                    persistedVersion = Long.parseLong(attribute.substring("version=".length()));
+                } catch (NumberFormatException e) {
+                    return;
+                }
+            }
+        }
+        String body = content.substring(endOfHeader + 1);
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        if (!Long.toHexString(crc.getValue()).equals(crc32)) {
+            return;
+        }
+        String persistedValues = body;
+        String persistedNames = null;
+        int marker = body.indexOf("\n" + NAMES_MARKER + "\n");
+        if (marker >= 0) {
+            persistedValues = body.substring(0, marker + 1);
+            persistedNames = body.substring(marker + NAMES_MARKER.length() + 2);
+        }
+        Properties properties = new Properties();
+        Properties propertyNames = new Properties();
+        try {
+            properties.load(new StringReader(persistedValues));
+            if (persistedNames != null) {
+                propertyNames.load(new StringReader(persistedNames));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return;
+        }
+        long staleSince = System.nanoTime() - timeToLiveNanos;
+        for (String propertyName : properties.stringPropertyNames()) {
+            values.put(propertyName, new Entry(properties.getProperty(propertyName), staleSince));
+        }
+        if (persistedNames != null) {
+            names.set(new Entry(Collections.unmodifiableSet(propertyNames.stringPropertyNames()), staleSince));
+        }
+        version.set(Math.max(persistedVersion, 0) + 1);
+    }
+
+    private void delegateChanged(ConfigSource source, Set<String> propertyNames) {
+        // the in-flight loads are discarded first, so that the values they load are not cached
+        if (propertyNames.isEmpty()) {
+            loading.clear();
+            values.clear();
+        } else {
+            loading.keySet().removeAll(propertyNames);
+            values.keySet().removeAll(propertyNames);
+        }
+        loading.remove(NAMES_KEY);
+        names.set(null);
+        changed(propertyNames);
+    }
+
+    private void changed(Set<String> propertyNames) {
+        version.incrementAndGet();
+        for (ConfigSourceChangeListener listener : listeners) {
+            try {
+                listener.onChange(this, propertyNames);
+            } catch (RuntimeException e) {
+                // a failing listener must not prevent the other listeners from being notified
+            }
+        }
+    }
+
+    private final class Entry {
+        private final Object value;
+        private final long loadedAt;
+
+        private Entry(Object value) {
+            this(value, System.nanoTime());
+        }
+
+        private Entry(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isStale(long now) {
+            return now - loadedAt >= timeToLiveNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - loadedAt >= timeToLiveNanos + maxStalenessNanos;
+        }
+    }
+
+    /**
+     * A builder of {@link CachingConfigSource} instances.
+     *
+     * @since 3.2
+     */
+    public static final class Builder {
+        private final ConfigSource delegate;
+        private Duration timeToLive = Duration.ofMinutes(1);
+        private Duration maxStaleness = Duration.ofMinutes(5);
+        private int maxSize = 10_000;
+        private Executor executor = ForkJoinPool.commonPool();
+        private Path file;
+
+        private Builder(ConfigSource delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Specify the time during which a loaded value is returned without being reloaded. The default is one
+         * minute.
+         *
+         * @param timeToLive
+         *            the time to live (must not be negative)
+         * @return this builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = requireNonNegative(timeToLive, "timeToLive");
+            return this;
+        }
+
+        /**
+         * Specify the time, after the time to live, during which a loaded value is still returned immediately while
+         * being reloaded in the background. The default is five minutes; zero disables the background reloads.
+         *
+         * @param maxStaleness
+         *            the maximum staleness (must not be negative)
+         * @return this builder
+         */
+        public Builder maxStaleness(Duration maxStaleness) {
+            this.maxStaleness = requireNonNegative(maxStaleness, "maxStaleness");
+            return this;
+        }
+
+        /**
+         * Specify the maximum number of cached values. The default is {@code 10000}.
+         *
+         * @param maxSize
+         *            the maximum number of cached values (must be positive)
+         * @return this builder
+         */
+        public Builder maxSize(int maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Specify the executor on which the stale values are reloaded, and on which the values looked up via
+         * {@link CachingConfigSource#getValueAsync(String)} are loaded. The default is the
+         * {@linkplain ForkJoinPool#commonPool() common pool}; an executor suited to blocking tasks should be specified
+         * if the delegate configuration source blocks while reading its values.
+         *
+         * @param executor
+         *            the executor (must not be {@code null})
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Specify a local file to which the cached values are persisted, so that they are available immediately when
+         * the configuration source is created again, e.g. after a restart, even if the delegate configuration source
+         * is slow or unavailable.
+         * <p>
+         * The file starts with a header line holding the CRC-32 checksum of the rest of the file and the version of
+         * the configuration source, followed by the non-null cached values in the
+         * {@linkplain Properties#load(java.io.Reader) properties format}, and by the cached property names, if any,
+         * after a {@code # CachingConfigSource property names} line. It is written on the
+         * {@linkplain #executor(Executor) executor} after the cached values change, and when the configuration source
+         * is closed, by replacing it atomically with a temporary file written in the same directory. A file whose
+         * checksum does not match its content is ignored.
+         * <p>
+         * The file is not encrypted: it should not be used to persist secret values, unless it is otherwise protected.
+         *
+         * @param file
+         *            the file to which the values are persisted (must not be {@code null})
+         * @return this builder
+         */
+        public Builder persistTo(Path file) {
+            this.file = Objects.requireNonNull(file, "file");
+            return this;
+        }
+
+        /**
+         * Create the caching configuration source. If the values are {@linkplain #persistTo(Path) persisted}, the
+         * values of a valid file are restored; otherwise, no value is loaded until it is looked up.
+         *
+         * @return the caching configuration source
+         */
+        public CachingConfigSource build() {
+            CachingConfigSource source = new CachingConfigSource(this);
+            delegate.addChangeListener(source.delegateListener);
+            return source;
+        }
+
+        private static Duration requireNonNegative(Duration duration, String name) {
+            Objects.requireNonNull(duration, name);
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be negative: " + duration);
+            }
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.spi;
+
+import java.time.Duration;
+
+/**
+ * A listener which is notified about the time spent while building a configuration.
+ * <p>
+ * Listeners are registered to a manually created configuration via
+ * {@link ConfigBuilder#withBuildListeners(ConfigBuildListener...)}. Listeners are also discovered via the
+ * {@link java.util.ServiceLoader} mechanism and can be registered by providing a resource named
+ * {@code META-INF/services/org.eclipse.microprofile.config.spi.ConfigBuildListener}, which contains the fully
+ * qualified {@code ConfigBuildListener} implementation class name as its content. Discovered listeners are notified
+ * when the configuration of an application is created by
+ * {@link ConfigProviderResolver#getConfig(ClassLoader)}.
+ * <p>
+ * Listener methods are invoked synchronously on the thread which performed the measured work, which may be a thread of
+ * the {@linkplain ConfigBuilder#withDiscoveryExecutor(java.util.concurrent.Executor) discovery executor}; therefore,
+ * implementations must be thread safe and should return quickly. An exception thrown by a listener must not prevent
+ * the configuration from being built.
+ *
+ * @since 3.2
+ */
+public interface ConfigBuildListener {
+    /**
+     * The phases of building a configuration.
+     */
+    enum Phase {
+        /**
+         * Creation of the <a href="ConfigSource.html#default_config_sources">default configuration sources</a>,
+         * including the lookup of every {@code META-INF/microprofile-config.properties} resource.
+         */
+        DEFAULT_SOURCES,
+        /**
+         * <a href="ConfigSource.html#discovery">Discovery</a> and instantiation of configuration sources and
+         * configuration source providers.
+         */
+        DISCOVERED_SOURCES,
+        /**
+         * <a href="Converter.html#discovery">Discovery</a> and instantiation of converters.
+         */
+        DISCOVERED_CONVERTERS,
+        /**
+         * Registration of all converters, including the built-in and the manually added converters.
+         */
+        CONVERTER_REGISTRATION,
+        /**
+         * Sorting of the configuration sources by ordinal and name, including the evaluation of each
+         * {@link ConfigSource#getOrdinal()}.
+         */
+        SOURCE_SORTING,
+        /**
+         * The whole construction of the configuration, from the start of {@link ConfigBuilder#build()} until the
+         * configuration is returned.
+         */
+        BUILD
+    }
+
+    /**
+     * Invoked when a phase of building a configuration has completed. A phase which is not part of the configuration
+     * being built, such as {@link Phase#DISCOVERED_SOURCES} for a configuration without discovered sources, is not
+     * reported.
+     *
+     * @param phase
+     *            the completed phase
+     * @param duration
+     *            the time spent in the phase
+     */
+    default void phaseCompleted(Phase phase, Duration duration) {
+    }
+
+    /**
+     * Invoked when a configuration source has been created. For a discovered configuration source, the duration
+     * includes the instantiation of the configuration source.
+     *
+     * @param source
+     *            the created configuration source
+     * @param duration
+     *            the time spent creating the configuration source
+     */
+    default void sourceLoaded(ConfigSource source, Duration duration) {
+    }
+
+    /**
+     * Invoked when the configuration sources of a {@link ConfigSourceProvider} have been obtained. The duration
+     * includes the instantiation of the provider and the call to
+     * {@link ConfigSourceProvider#getConfigSources(ClassLoader)}.
+     *
+     * @param provider
+     *            the configuration source provider
+     * @param duration
+     *            the time spent obtaining the configuration sources of the provider
+     */
+    default void providerLoaded(ConfigSourceProvider provider, Duration duration) {
+    }
+}
@@ -26,6 +26,9 @@
  */
 package org.eclipse.microprofile.config.spi;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
 import org.eclipse.microprofile.config.Config;
 
 /**
@@ -72,6 +75,60 @@ public interface ConfigBuilder {
      */
     ConfigBuilder forClassLoader(ClassLoader loader);
 
+    /**
+     * Specify the {@link Executor} which may be used to discover and instantiate the configuration sources, the
+     * configuration source providers and the converters of the configuration being built.
+     * <p>
+     * Independent discovered classes may be instantiated concurrently on the given executor. Regardless of the order in
+     * which the instances are created, the configuration sources of the built configuration are always sorted by
+     * {@linkplain ConfigSource#getOrdinal() ordinal} and {@linkplain ConfigSource#getName() name}, and the converters
+     * are always selected by priority, so the resulting configuration is the same as if discovery was performed
+     * sequentially.
+     * <p>
+     * The executor is only used during {@link #build()} and is not retained by the built configuration. If no executor
+     * is specified, discovery is performed on the thread calling {@link #build()}.
+     * <p>
+     * The default implementation ignores the executor and performs discovery sequentially.
+     *
+     * @param executor
+     *            the executor to use for discovery (must not be {@code null})
+     * @return this configuration builder instance
+     */
+    default ConfigBuilder withDiscoveryExecutor(Executor executor) {
+        return this;
+    }
+
+    /**
+     * Specify the {@link ScheduledExecutorService} on which the {@linkplain RefreshableConfigSource refreshable
+     * configuration sources} of the configuration being built are refreshed.
+     * <p>
+     * The executor is not shut down when the configuration is released. If no executor is specified, the refreshes are
+     * executed on a scheduler provided by the implementation, shared by all the configurations.
+     * <p>
+     * The default implementation ignores the executor.
+     *
+     * @param executor
+     *            the executor to use for refreshes (must not be {@code null})
+     * @return this configuration builder instance
+     */
+    default ConfigBuilder withRefreshExecutor(ScheduledExecutorService executor) {
+        return this;
+    }
+
+    /**
+     * Add the specified {@link ConfigBuildListener} instances to be notified about the time spent while building the
+     * configuration.
+     * <p>
+     * The default implementation ignores the listeners.
+     *
+     * @param listeners
+     *            the listeners to add
+     * @return this configuration builder instance
+     */
+    default ConfigBuilder withBuildListeners(ConfigBuildListener... listeners) {
+        return this;
+    }
+
     /**
      * Add the specified {@link ConfigSource} instances to the configuration being built.
      *
@@ -19,6 +19,8 @@
 package org.eclipse.microprofile.config.spi;
 
 import java.util.Iterator;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 
 import org.eclipse.microprofile.config.Config;
@@ -53,9 +55,23 @@ public abstract class ConfigProviderResolver {
 
     private static volatile ConfigProviderResolver instance = null;
 
+    /*
+     * Written under the class lock but read without it by instance(): a thread which does not see the pinned flag yet
+     * falls back to the volatile instance, which holds the same resolver, and the class initialization of
+     * PinnedInstance safely publishes the pinned resolver to a thread which sees the flag.
+     */
+    private static boolean pinned = false;
+
+    private static ConfigProviderResolver pinnedInstance;
+
     /**
      * Get the configuration instance for the current application in the manner described by
      * {@link org.eclipse.microprofile.config.ConfigProvider#getConfig()}.
+     * <p>
+     * The lookup of an already created or registered configuration must be lock-free: it must neither acquire a
+     * monitor nor otherwise block while other threads look up, create or register configurations, for the same or for
+     * other class loaders. Only the creation of a configuration may block threads requesting the configuration of the
+     * same class loader.
      *
      * @return the configuration instance
      */
@@ -64,6 +80,9 @@ public abstract class ConfigProviderResolver {
     /**
      * Get the configuration instance for the current application in the manner described by
      * {@link org.eclipse.microprofile.config.ConfigProvider#getConfig(ClassLoader)}.
+     * <p>
+     * The lookup of an already created or registered configuration must be lock-free, as described for
+     * {@link #getConfig()}.
      *
      * @param loader
      *            the class loader identifying the application
@@ -87,6 +106,12 @@ public abstract class ConfigProviderResolver {
      * Register the given {@link Config} instance to the application identified by the given class loader. If the class
      * loader is {@code null}, then the current application (as identified by the
      * {@linkplain Thread#getContextClassLoader() thread context class loader}) will be used.
+     * <p>
+     * The registration must not prevent the class loader from being garbage collected. Once the class loader becomes
+     * unreachable, the implementation only drops its reference to the configuration: the configuration sources and
+     * converters implementing {@link AutoCloseable} are not closed, since the implementation cannot keep them reachable
+     * without also keeping the class loader which loaded them reachable. Call {@link #releaseConfig(Config)} to close
+     * them.
      *
      * @param config
      *            the configuration to register
@@ -99,7 +124,8 @@ public abstract class ConfigProviderResolver {
 
     /**
      * A {@link Config} normally gets released if the Application it is associated with gets destroyed. Invoke this
-     * method if you like to destroy the Config prematurely.
+     * method if you like to destroy the Config prematurely, or before its class loader is discarded, since the
+     * configuration sources and converters of a Config are not closed when its class loader is garbage collected.
      *
      * If the given Config is associated within an Application then it will be unregistered.
      *
@@ -109,23 +135,54 @@ public abstract class ConfigProviderResolver {
     public abstract void releaseConfig(Config config);
 
     /**
-     * Find and return the provider resolver instance. If the provider resolver instance was already found, or was
-     * manually specified, that instance is returned. Otherwise, {@link ServiceLoader} is used to locate the first
-     * implementation that is visible from the class loader that defined this class.
+     * Find and return the provider resolver instance. If a provider resolver instance was manually specified, that
+     * instance is returned. Otherwise, {@link ServiceLoader} is used to locate the first implementation that is visible
+     * from the class loader that defined this class.
+     * <p>
+     * Once an implementation was found, subsequent calls return the same instance without acquiring a lock or
+     * allocating. A failed lookup, e.g. because no implementation is visible yet or an implementation cannot be
+     * instantiated, is not remembered: each call throws an {@link IllegalStateException} and performs the lookup again,
+     * under a lock, on the next call, so that an implementation made available later, e.g. by an OSGi bundle started
+     * after the first call, is still found.
+     * <p>
+     * Once an instance is {@linkplain #pinInstance(ConfigProviderResolver) pinned}, it is read from a {@code static
+     * final} field, which the JIT compiler can treat as a constant.
      *
      * @return the provider resolver instance
+     * @throws IllegalStateException
+     *             if no provider resolver instance was specified and no implementation can be found or loaded
      */
     public static ConfigProviderResolver instance() {
-        if (instance == null) {
-            synchronized (ConfigProviderResolver.class) {
-                if (instance != null) {
-                    return instance;
-                }
-                instance = loadSpi(ConfigProviderResolver.class.getClassLoader());
-            }
+        if (pinned) {
+            return PinnedInstance.INSTANCE;
         }
+        ConfigProviderResolver resolver = instance;
+        if (resolver == null) {
+            resolver = discover();
+        }
+        return resolver;
+    }
 
-        return instance;
+    /**
+     * Perform the {@link ServiceLoader} lookup, unless an instance was set or discovered concurrently. Only a
+     * successful lookup is kept.
+     */
+    private static synchronized ConfigProviderResolver discover() {
+        if (instance != null) {
+            return instance;
+        }
+        ConfigProviderResolver resolver;
+        try {
+            resolver = loadSpi(ConfigProviderResolver.class.getClassLoader());
+        } catch (ServiceConfigurationError | RuntimeException e) {
+            throw new IllegalStateException("The ConfigProviderResolver implementation could not be loaded", e);
+        }
+        if (resolver == null) {
+            throw new IllegalStateException(
+                    "No ConfigProviderResolver implementation found!");
+        }
+        instance = resolver;
+        return resolver;
     }
 
     private static ConfigProviderResolver loadSpi(ClassLoader cl) {
@@ -135,8 +192,7 @@ public abstract class ConfigProviderResolver {
         if (iterator.hasNext()) {
             return iterator.next();
         }
-        throw new IllegalStateException(
-                "No ConfigProviderResolver implementation found!");
+        return null;
     }
 
     /**
@@ -149,8 +205,47 @@ public abstract class ConfigProviderResolver {
      *
      * @param resolver
      *            the instance to set, or {@code null} to unset the instance
+     * @throws IllegalStateException
+     *             if the instance was {@linkplain #pinInstance(ConfigProviderResolver) pinned}
+     */
+    public static synchronized void setInstance(ConfigProviderResolver resolver) {
+        if (pinned) {
+            throw new IllegalStateException("The ConfigProviderResolver instance is pinned and cannot be changed");
+        }
+        instance = resolver;
+    }
+
+    /**
+     * Set the instance and prevent it from being changed afterwards. It is intended to be called once, at startup,
+     * by the runtime which owns the MicroProfile Config implementation, before any configuration is retrieved.
+     * <p>
+     * Once pinned, the instance is returned by every subsequent call to {@link #instance()}, and any further call to
+     * {@link #setInstance(ConfigProviderResolver)} or to this method fails. Pinning freezes the instance in a
+     * {@code static final} field of a holder class, rather than in the field written by
+     * {@link #setInstance(ConfigProviderResolver)}, so that {@link #instance()} then reads a constant.
+     *
+     * @param resolver
+     *            the instance to pin (must not be {@code null})
+     * @throws IllegalStateException
+     *             if an instance was already pinned
      */
-    public static void setInstance(ConfigProviderResolver resolver) {
+    public static synchronized void pinInstance(ConfigProviderResolver resolver) {
+        Objects.requireNonNull(resolver, "resolver");
+        if (pinned) {
+            throw new IllegalStateException("The ConfigProviderResolver instance is pinned and cannot be changed");
+        }
+        pinnedInstance = resolver;
         instance = resolver;
+        // initialize the holder with the pinned instance before instance() may read it
+        Objects.requireNonNull(PinnedInstance.INSTANCE);
+        pinned = true;
+    }
+
+    /**
+     * Holds the {@linkplain #pinInstance(ConfigProviderResolver) pinned} instance. The class is initialized by
+     * {@link #pinInstance(ConfigProviderResolver)}, after the instance to pin was set.
+     */
+    private static final class PinnedInstance {
+        private static final ConfigProviderResolver INSTANCE = pinnedInstance;
     }
 }
@@ -29,6 +29,8 @@ package org.eclipse.microprofile.config.spi;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * A <em>configuration source</em> which provides configuration values from a specific place. Some examples of
@@ -94,11 +96,29 @@ import java.util.Set;
  * Configuration sources may also be added by defining {@link org.eclipse.microprofile.config.spi.ConfigSourceProvider}
  * classes which are discoverable in this manner.
  *
+ * <p>
+ * Discovered configuration sources and configuration source providers may be instantiated concurrently (see
+ * {@link ConfigBuilder#withDiscoveryExecutor(java.util.concurrent.Executor)}). Their constructors should therefore not
+ * depend on other configuration sources being already instantiated. The order of the configuration sources in the
+ * resulting configuration does not depend on the order of discovery.
+ *
+ * <h3>Blocking configuration sources</h3>
+ *
+ * <p>
+ * Configuration sources may be read from virtual threads. A configuration source must not hold a monitor, i.e. be
+ * within a {@code synchronized} block or method, while it performs I/O or waits for another thread, since a virtual
+ * thread blocked while holding a monitor cannot release its carrier thread. A configuration source should rather hold
+ * its state in immutable structures, use concurrent data structures for its caches, and use a
+ * {@link java.util.concurrent.locks.Lock} where mutual exclusion is needed.
+ *
  * <h3>Closing configuration sources</h3>
  *
  * <p>
  * If a configuration source implements the {@link AutoCloseable} interface, then its {@linkplain AutoCloseable#close()
- * close method} will be called when the underlying configuration is released.
+ * close method} will be called when the underlying configuration is released. If the same configuration source instance
+ * is used by several configurations, for example because the implementation shares the
+ * <a href="#default_config_sources">default configuration sources</a> between configurations, the close method is only
+ * called once the last of these configurations is released.
  *
  * @author <a href="mailto:struberg@apache.org">Mark Struberg</a>
  * @author <a href="mailto:gpetracek@apache.org">Gerhard Petracek</a>
@@ -116,6 +136,13 @@ public interface ConfigSource {
      */
     int DEFAULT_ORDINAL = 100;
 
+    /**
+     * The version returned by configuration sources which do not track changes, {@code -1}.
+     *
+     * @see #getVersion()
+     */
+    long UNKNOWN_VERSION = -1;
+
     /**
      * Return the properties in this configuration source as a map.
      *
@@ -189,6 +216,125 @@ public interface ConfigSource {
      */
     String getValue(String propertyName);
 
+    /**
+     * Return the value for the specified property in this configuration source, without blocking the calling thread.
+     * <p>
+     * A configuration source which reads its values from a remote or otherwise slow store should override this method
+     * to perform the read asynchronously, and may implement {@link #getValue(String)} by waiting for the completion of
+     * the returned stage. The returned stage completes with {@code null} if the property is not present, and completes
+     * exceptionally if the value cannot be read.
+     * <p>
+     * The default implementation is not asynchronous: it invokes {@link #getValue(String)} on the calling thread, which
+     * is blocked until the value is read, and returns an already completed stage. This is only appropriate for a
+     * configuration source whose {@link #getValue(String)} does not block, e.g. which reads its values from memory.
+     *
+     * @param propertyName
+     *            the property name
+     * @return a stage completed with the property value, or with {@code null} if the property is not present
+     */
+    default CompletionStage<String> getValueAsync(String propertyName) {
+        try {
+            return CompletableFuture.completedFuture(getValue(propertyName));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Return where the value of the specified property is defined in this configuration source.
+     * <p>
+     * The location is a human readable description, such as the path or URL of a file followed by a colon and the
+     * line number of the property, e.g. {@code /etc/myapp/config.properties:12}, or the path of the file holding the
+     * value. It is only used to report the origin of a value, through
+     * {@link org.eclipse.microprofile.config.ConfigValue#getSourceLocation()}, and has no defined format.
+     * <p>
+     * This method is only called when the location is requested, so it may compute the location on demand. A
+     * configuration source should not keep more than compact data to support it, e.g. an {@code int} line number per
+     * property, and should return {@code null} rather than read its underlying store again.
+     * <p>
+     * The default implementation returns {@code null}.
+     *
+     * @param propertyName
+     *            the property name
+     * @return the location of the property, or {@code null} if the property is not present or its location is unknown
+     */
+    default String getLocation(String propertyName) {
+        return null;
+    }
+
+    /**
+     * Return the current version of the data of this configuration source.
+     * <p>
+     * A configuration source which tracks changes returns a non-negative version, which must be different from any
+     * previously returned version as soon as any value or property name of this configuration source may have changed.
+     * If two calls to this method return the same non-negative version, then every value and property name returned
+     * by this configuration source in between was the same. A static configuration source may always return the same
+     * version, e.g. {@code 0}.
+     * <p>
+     * The version allows the implementation to cache values derived from this configuration source, such as converted
+     * values, for as long as the version does not change. A configuration source which does not track changes returns
+     * {@link #UNKNOWN_VERSION}, meaning that its values may change at any time and must not be cached.
+     * <p>
+     * This method is called frequently and must be cheap, e.g. a read of a single field.
+     * <p>
+     * The default implementation returns {@link #UNKNOWN_VERSION}.
+     *
+     * @return the current version, or {@link #UNKNOWN_VERSION} if this configuration source does not track changes
+     */
+    default long getVersion() {
+        return UNKNOWN_VERSION;
+    }
+
+    /**
+     * Return a view of the current state of this configuration source, whose values and property names do not change
+     * afterwards.
+     * <p>
+     * The returned configuration source is used by a {@link org.eclipse.microprofile.config.ConfigSnapshot} to read
+     * several properties consistently. It must have the same name and ordinal as this configuration source, and must
+     * return the version of the captured state. Since a snapshot is taken on each call to
+     * {@link org.eclipse.microprofile.config.Config#snapshot()}, this method must be cheap and must not block: a
+     * configuration source which holds its data in an immutable structure, replaced as a whole on each change, can
+     * simply return a view of the current structure.
+     * <p>
+     * The default implementation returns this configuration source, which is correct for a configuration source whose
+     * data never changes. A configuration source whose data may change should override this method.
+     *
+     * @return a view of the current state of this configuration source
+     */
+    default ConfigSource snapshot() {
+        return this;
+    }
+
+    /**
+     * Register a listener to be notified when the data of this configuration source changes.
+     * <p>
+     * A configuration source which can detect the changes of its data, e.g. because it is notified by its backing
+     * store, notifies every registered listener once per change, after the change became visible. A configuration
+     * source which cannot detect changes does not accept listeners.
+     * <p>
+     * The default implementation does not accept the listener and returns {@code false}.
+     *
+     * @param listener
+     *            the listener to register
+     * @return {@code true} if the listener was registered, or {@code false} if this configuration source does not
+     *         notify changes
+     */
+    default boolean addChangeListener(ConfigSourceChangeListener listener) {
+        return false;
+    }
+
+    /**
+     * Unregister a listener previously registered with {@link #addChangeListener(ConfigSourceChangeListener)}. This
+     * method has no effect if the listener is not registered.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param listener
+     *            the listener to unregister
+     */
+    default void removeChangeListener(ConfigSourceChangeListener listener) {
+    }
+
     /**
      * The name of the configuration source. The name might be used for logging or for analysis of configured values,
      * and also may be used in {@linkplain #getOrdinal() ordering decisions}.
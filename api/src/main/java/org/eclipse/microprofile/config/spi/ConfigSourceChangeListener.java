@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.spi;
+
+import java.util.Set;
+
+/**
+ * A listener which is notified when the data of a {@link ConfigSource} changes.
+ * <p>
+ * Listeners are registered with {@link ConfigSource#addChangeListener(ConfigSourceChangeListener)}, usually by the
+ * configuration which uses the configuration source.
+ *
+ * @since 3.2
+ */
+@FunctionalInterface
+public interface ConfigSourceChangeListener {
+    /**
+     * Invoked after the data of a configuration source has changed. When this method is invoked, the new values are
+     * already returned by {@link ConfigSource#getValue(String)}, and the new {@linkplain ConfigSource#getVersion()
+     * version} is already reported if the configuration source tracks its version.
+     * <p>
+     * This method may be invoked from any thread and should return quickly.
+     *
+     * @param source
+     *            the changed configuration source
+     * @param propertyNames
+     *            the names of the properties which were added, removed or changed, or an empty set if the changed
+     *            properties are not known
+     */
+    void onChange(ConfigSource source, Set<String> propertyNames);
+}
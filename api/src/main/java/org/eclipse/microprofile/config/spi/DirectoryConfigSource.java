@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.spi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link ConfigSource} reading a directory which contains one file per property, such as a Kubernetes secret or
+ * config map mounted as a volume.
+ * <p>
+ * Each regular file of the directory, following symbolic links, provides a property whose name is the file name and
+ * whose value is the content of the file, read with the UTF-8 encoding, without a single trailing line terminator
+ * ({@code \n}, {@code \r\n} or {@code \r}). The entries whose name starts with {@code .}, such as the {@code ..data}
+ * symbolic link of a Kubernetes volume, are ignored. A property is looked up with the
+ * <a href="ConfigSource.html#default_config_sources">environment variable name mapping rules</a>: the value of the
+ * property {@code db.password} is read from the file {@code db.password}, {@code db_password} or
+ * {@code DB_PASSWORD}, whichever exists first.
+ * <p>
+ * The directory is listed once, when the configuration source is created, and each file is only read when its
+ * property is first looked up; its value is then cached. The directory is watched with a
+ * {@link java.nio.file.WatchService}, and each {@linkplain #refresh() refresh} updates the list of files and reads
+ * again the cached values of the changed files. When an entry whose name starts with {@code ..} changes, e.g. when
+ * Kubernetes atomically replaces the {@code ..data} symbolic link, all the files are considered changed. If the
+ * directory cannot be watched, each refresh lists the directory again and compares the modification time and the size
+ * of the files whose values are cached.
+ * <p>
+ * The {@linkplain #getVersion() version} only changes, and the
+ * {@linkplain #addChangeListener(ConfigSourceChangeListener) change listeners} are only notified, when files are added
+ * or removed, or when a cached value changes; the listeners receive the names of the corresponding files.
+ * <p>
+ * As a {@link RefreshableConfigSource}, this configuration source is refreshed by the configuration using it. Its
+ * {@linkplain #getOrdinal() ordinal} is given by the content of the {@value ConfigSource#CONFIG_ORDINAL} file, or is
+ * {@value ConfigSource#DEFAULT_ORDINAL} by default.
+ *
+ * <pre>
+ * ConfigSource source = new DirectoryConfigSource(Paths.get("/var/run/secrets/db"));
+ * </pre>
+ *
+ * @since 3.2
+ */
+public final class DirectoryConfigSource implements RefreshableConfigSource, AutoCloseable {
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+    private static final int MAX_SNAPSHOT_ATTEMPTS = 3;
+
+    private final Path directory;
+    private final Duration refreshInterval;
+    private final FileWatcher watcher;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> propertyNames = Collections.unmodifiableSet(entries.keySet());
+    private final AtomicLong version = new AtomicLong();
+    private final List<ConfigSourceChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create a configuration source reading the specified directory, refreshed every 5 seconds.
+     *
+     * @param directory
+     *            the directory (must not be {@code null})
+     * @throws UncheckedIOException
+     *             if the directory exists but cannot be listed
+     */
+    public DirectoryConfigSource(Path directory) {
+        this(directory, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    /**
+     * Create a configuration source reading the specified directory, refreshed at the specified interval.
+     *
+     * @param directory
+     *            the directory (must not be {@code null})
+     * @param refreshInterval
+     *            the interval between two checks for changes of the directory (must be positive)
+     * @throws UncheckedIOException
+     *             if the directory exists but cannot be listed
+     */
+    public DirectoryConfigSource(Path directory, Duration refreshInterval) {
+        this.directory = Objects.requireNonNull(directory, "directory").toAbsolutePath();
+        Objects.requireNonNull(refreshInterval, "refreshInterval");
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("refreshInterval must be positive: " + refreshInterval);
+        }
+        this.refreshInterval = refreshInterval;
+        // watch before listing, so that a change made in between is not missed
+        this.watcher = new FileWatcher(this.directory);
+        try {
+            for (String fileName : list()) {
+                entries.put(fileName, Entry.unread());
+            }
+        } catch (IOException e) {
+            watcher.close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Update the list of files, and read again the cached values of the files which changed since the last refresh.
+     *
+     * @throws IOException
+     *             if the directory cannot be listed or a changed file cannot be read
+     */
+    @Override
+    public void refresh() throws IOException {
+        Set<String> changes = watcher.pollChanges();
+        if (changes != null && changes.isEmpty()) {
+            return;
+        }
+        Set<String> changed = new HashSet<>();
+        Set<String> fileNames = list();
+        for (String fileName : fileNames) {
+            if (entries.putIfAbsent(fileName, Entry.unread()) == null) {
+                changed.add(fileName);
+            }
+        }
+        for (String fileName : entries.keySet()) {
+            if (!fileNames.contains(fileName)) {
+                entries.remove(fileName);
+                changed.add(fileName);
+            }
+        }
+        boolean swapped = changes == null || changes.stream().anyMatch(name -> name.startsWith(".."));
+        boolean invalidated = false;
+        for (Map.Entry<String, Entry> cached : entries.entrySet()) {
+            Entry entry = cached.getValue();
+            String fileName = cached.getKey();
+            if (changed.contains(fileName) || !swapped && !changes.contains(fileName)) {
+                continue;
+            }
+            if (entry.isUnread()) {
+                // discard a concurrent read of the previous content, which may already have been returned
+                invalidated |= changes != null && entries.replace(fileName, entry, Entry.unread());
+                continue;
+            }
+            if (changes == null && entry.isSameFile(attributes(fileName))) {
+                continue;
+            }
+            Entry reloaded = read(fileName);
+            if (reloaded == null) {
+                entries.remove(fileName, entry);
+                changed.add(fileName);
+            } else if (entries.replace(fileName, entry, reloaded) && !entry.value.equals(reloaded.value)) {
+                changed.add(fileName);
+            }
+        }
+        if (!changed.isEmpty()) {
+            version.incrementAndGet();
+            notifyListeners(Collections.unmodifiableSet(changed));
+        } else if (invalidated) {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return propertyNames;
+    }
+
+    /**
+     * Return the value of the specified property, read from the file named after the property with the environment
+     * variable name mapping rules. The file is read on the first lookup of the property, and its value is then cached.
+     *
+     * @param propertyName
+     *            the property name
+     * @return the property value, or {@code null} if no file corresponds to the property
+     */
+    @Override
+    public String getValue(String propertyName) {
+        return value(entries, propertyName);
+    }
+
+    /**
+     * Return the path of the file holding the value of the specified property. The file is not read.
+     *
+     * @param propertyName
+     *            the property name
+     * @return the path of the file, or {@code null} if no file corresponds to the property
+     */
+    @Override
+    public String getLocation(String propertyName) {
+        String fileName = fileName(entries, propertyName);
+        return fileName == null ? null : directory.resolve(fileName).toString();
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Return a view of the current list of files and of the values already cached, which does not change when the
+     * directory is refreshed afterwards.
+     * <p>
+     * Taking a snapshot does not read any file: it copies the references to the cached values, and its cost is
+     * proportional to the number of files. If the directory is refreshed while the copy is made, the copy is made
+     * again, at most three times, after which the last copy is used. A file which was not read yet is read on its first
+     * lookup in the snapshot, and its value may therefore be more recent than the snapshot.
+     *
+     * @return a view of the current content of the directory
+     */
+    @Override
+    public ConfigSource snapshot() {
+        long currentVersion;
+        Map<String, Entry> content;
+        int attempts = 0;
+        do {
+            currentVersion = version.get();
+            content = new ConcurrentHashMap<>(entries);
+        } while (currentVersion != version.get() && ++attempts < MAX_SNAPSHOT_ATTEMPTS);
+        Map<String, Entry> files = content;
+        Set<String> fileNames = Collections.unmodifiableSet(files.keySet());
+        long snapshotVersion = currentVersion;
+        String name = getName();
+        int ordinal = getOrdinal();
+        return new ConfigSource() {
+            @Override
+            public Set<String> getPropertyNames() {
+                return fileNames;
+            }
+
+            @Override
+            public String getValue(String propertyName) {
+                return value(files, propertyName);
+            }
+
+            @Override
+            public String getLocation(String propertyName) {
+                String fileName = fileName(files, propertyName);
+                return fileName == null ? null : directory.resolve(fileName).toString();
+            }
+
+            @Override
+            public long getVersion() {
+                return snapshotVersion;
+            }
+
+            @Override
+            public int getOrdinal() {
+                return ordinal;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    @Override
+    public boolean addChangeListener(ConfigSourceChangeListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+        return true;
+    }
+
+    @Override
+    public void removeChangeListener(ConfigSourceChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public String getName() {
+        return "directory " + directory;
+    }
+
+    /**
+     * Stop watching the directory.
+     */
+    @Override
+    public void close() {
+        watcher.close();
+    }
+
+    /**
+     * Return the value of the specified property from the specified entries, which are either the entries of this
+     * configuration source or those of a snapshot, reading the file if it was not read yet.
+     */
+    private String value(Map<String, Entry> files, String propertyName) {
+        String fileName = fileName(files, propertyName);
+        Entry entry = fileName == null ? null : files.get(fileName);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.isUnread()) {
+            return entry.value;
+        }
+        Entry loaded;
+        try {
+            loaded = read(fileName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (loaded == null) {
+            // removed since the directory was listed; the next refresh removes the entry
+            return null;
+        }
+        // a concurrent refresh may have replaced the entry, in which case the newer entry is kept
+        files.replace(fileName, entry, loaded);
+        if (files != entries) {
+            entries.replace(fileName, entry, loaded);
+        }
+        return loaded.value;
+    }
+
+    private Set<String> list() throws IOException {
+        Set<String> fileNames = new HashSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                if (!fileName.startsWith(".") && Files.isRegularFile(path)) {
+                    fileNames.add(fileName);
+                }
+            }
+        } catch (NoSuchFileException | NotDirectoryException e) {
+            return Collections.emptySet();
+        }
+        return fileNames;
+    }
+
+    private BasicFileAttributes attributes(String fileName) throws IOException {
+        try {
+            return Files.readAttributes(directory.resolve(fileName), BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private Entry read(String fileName) throws IOException {
+        Path file = directory.resolve(fileName);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            String value = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            if (value.endsWith("\r\n")) {
+                value = value.substring(0, value.length() - 2);
+            } else if (value.endsWith("\n") || value.endsWith("\r")) {
+                value = value.substring(0, value.length() - 1);
+            }
+            return new Entry(value, attributes.lastModifiedTime(), attributes.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void notifyListeners(Set<String> fileNames) {
+        for (ConfigSourceChangeListener listener : listeners) {
+            try {
+                listener.onChange(this, fileNames);
+            } catch (RuntimeException e) {
+                // a failing listener must not prevent the other listeners from being notified
+            }
+        }
+    }
+
+    /**
+     * Return the name of the file corresponding to the specified property, with the environment variable name mapping
+     * rules.
+     */
+    private static String fileName(Map<String, ?> files, String propertyName) {
+        if (files.containsKey(propertyName)) {
+            return propertyName;
+        }
+        String sanitized = sanitize(propertyName);
+        if (files.containsKey(sanitized)) {
+            return sanitized;
+        }
+        String upperCase = sanitized.toUpperCase(Locale.ROOT);
+        return files.containsKey(upperCase) ? upperCase : null;
+    }
+
+    private static String sanitize(String propertyName) {
+        StringBuilder builder = new StringBuilder(propertyName.length());
+        for (int i = 0; i < propertyName.length(); i++) {
+            char c = propertyName.charAt(i);
+            builder.append(c < 128 && Character.isLetterOrDigit(c) ? c : '_');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The cached content of a file.
+     */
+    private static final class Entry {
+        private final String value;
+        private final FileTime lastModified;
+        private final long size;
+
+        private Entry(String value, FileTime lastModified, long size) {
+            this.value = value;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        /**
+         * Create an entry for a file which was not read yet. Each such entry is a distinct instance, so that a read
+         * started before the file changed cannot replace the entry created after the change.
+         */
+        private static Entry unread() {
+            return new Entry(null, null, -1);
+        }
+
+        private boolean isUnread() {
+            return value == null;
+        }
+
+        private boolean isSameFile(BasicFileAttributes attributes) {
+            return attributes != null && attributes.lastModifiedTime().equals(lastModified)
+                    && attributes.size() == size;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.spi;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Collects the names of the entries of a directory which were created, modified or deleted, using a
+ * {@link WatchService}. The changes are polled without blocking, so that they can be checked on each refresh of a
+ * configuration source.
+ */
+final class FileWatcher implements AutoCloseable {
+    private final WatchService service;
+    private volatile boolean watching;
+
+    /**
+     * Start watching the specified directory. If the directory cannot be watched, e.g. because it does not exist or
+     * because the file system does not support watching, {@link #pollChanges()} always returns {@code null}.
+     *
+     * @param directory
+     *            the directory to watch
+     */
+    FileWatcher(Path directory) {
+        WatchService watchService = null;
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException | UnsupportedOperationException e) {
+            closeQuietly(watchService);
+            watchService = null;
+        }
+        this.service = watchService;
+        this.watching = watchService != null;
+    }
+
+    /**
+     * Return the names of the entries of the watched directory which changed since the last call.
+     *
+     * @return the names of the changed entries, or {@code null} if the changes are not known, because the directory
+     *         is not watched, or because some events were lost
+     */
+    Set<String> pollChanges() {
+        if (!watching) {
+            return null;
+        }
+        Set<String> names = new HashSet<>();
+        boolean lost = false;
+        try {
+            WatchKey key;
+            while ((key = service.poll()) != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        lost = true;
+                    } else {
+                        names.add(((Path) event.context()).getFileName().toString());
+                    }
+                }
+                if (!key.reset()) {
+                    // the directory is no longer watched, e.g. because it was deleted
+                    watching = false;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            watching = false;
+        }
+        if (!watching) {
+            return null;
+        }
+        return lost ? null : names;
+    }
+
+    @Override
+    public void close() {
+        watching = false;
+        closeQuietly(service);
+    }
+
+    private static void closeQuietly(WatchService watchService) {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                // nothing else to release
+            }
+        }
+    }
+}
@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.spi;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link ConfigSource} reading a properties file, which reloads the file when it changes.
+ * <p>
+ * The file is read when the configuration source is created, in the {@linkplain Properties#load(Reader) properties
+ * format} with the UTF-8 encoding; a missing file provides no property. The directory of the file is then watched with
+ * a {@link java.nio.file.WatchService}, and each {@linkplain #refresh() refresh} only reads the file again if a change
+ * of the file was reported. If the directory cannot be watched, each refresh compares the modification time and the
+ * size of the file instead. In both cases, a change of an entry of the directory whose name starts with {@code ..},
+ * such as the {@code ..data} symbolic link atomically replaced when a Kubernetes volume is updated, is also considered
+ * a change of the file.
+ * <p>
+ * The new content is compared with the previous one: the {@linkplain #getVersion() version} only changes, and the
+ * {@linkplain #addChangeListener(ConfigSourceChangeListener) change listeners} are only notified, if some properties
+ * were added, removed or changed, and the listeners only receive the names of these properties. The properties are
+ * held in an immutable map, replaced as a whole on each change, so lookups never observe a partially reloaded file
+ * and never block.
+ * <p>
+ * The line number of each property is recorded when the file is read, in an array of {@code int} aligned with the
+ * sorted property names, so that {@link #getLocation(String)} returns the path of the file followed by the line where
+ * the property is defined, without reading the file again.
+ * <p>
+ * As a {@link RefreshableConfigSource}, this configuration source is refreshed by the configuration using it. Its
+ * {@linkplain #getOrdinal() ordinal} is given by the {@value ConfigSource#CONFIG_ORDINAL} property of the file, or is
+ * {@value ConfigSource#DEFAULT_ORDINAL} by default.
+ *
+ * <pre>
+ * ConfigSource source = new PropertiesFileConfigSource(Paths.get("/etc/myapp/config.properties"));
+ * </pre>
+ *
+ * @since 3.2
+ */
+public final class PropertiesFileConfigSource implements RefreshableConfigSource, AutoCloseable {
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    private final Path file;
+    private final Duration refreshInterval;
+    private final FileWatcher watcher;
+    private final AtomicReference<State> state;
+    private final List<ConfigSourceChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create a configuration source reading the specified file, refreshed every 5 seconds.
+     *
+     * @param file
+     *            the properties file (must not be {@code null})
+     * @throws UncheckedIOException
+     *             if the file exists but cannot be read
+     */
+    public PropertiesFileConfigSource(Path file) {
+        this(file, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    /**
+     * Create a configuration source reading the specified file, refreshed at the specified interval.
+     *
+     * @param file
+     *            the properties file (must not be {@code null})
+     * @param refreshInterval
+     *            the interval between two checks for changes of the file (must be positive)
+     * @throws UncheckedIOException
+     *             if the file exists but cannot be read
+     */
+    public PropertiesFileConfigSource(Path file, Duration refreshInterval) {
+        this.file = Objects.requireNonNull(file, "file").toAbsolutePath();
+        Objects.requireNonNull(refreshInterval, "refreshInterval");
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("refreshInterval must be positive: " + refreshInterval);
+        }
+        this.refreshInterval = refreshInterval;
+        // watch before reading, so that a change made in between is not missed
+        this.watcher = new FileWatcher(this.file.getParent());
+        try {
+            this.state = new AtomicReference<>(read(0));
+        } catch (IOException e) {
+            watcher.close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the file again if it changed since the last refresh, and publish its new content.
+     *
+     * @throws IOException
+     *             if the file exists but cannot be read; the previous content is kept
+     */
+    @Override
+    public void refresh() throws IOException {
+        Set<String> changes = watcher.pollChanges();
+        State current = state.get();
+        if (changes != null) {
+            String fileName = file.getFileName().toString();
+            if (changes.stream().noneMatch(name -> name.equals(fileName) || name.startsWith(".."))) {
+                return;
+            }
+        } else if (current.isSameFile(attributes())) {
+            return;
+        }
+        State next = read(current.version);
+        while (true) {
+            Set<String> changed = current.diff(next);
+            if (changed.isEmpty()) {
+                // only keep the attributes, so that an unwatched file is not read again
+                state.compareAndSet(current, current.withAttributes(next));
+                return;
+            }
+            State published = next.withVersion(current.version + 1);
+            if (state.compareAndSet(current, published)) {
+                notifyListeners(changed);
+                return;
+            }
+            current = state.get();
+        }
+    }
+
+    @Override
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return state.get().properties.keySet();
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return state.get().properties;
+    }
+
+    @Override
+    public String getValue(String propertyName) {
+        return state.get().properties.get(propertyName);
+    }
+
+    /**
+     * Return the path of the file followed by a colon and the line where the specified property is defined, e.g.
+     * {@code /etc/myapp/config.properties:12}. For a property spanning several lines, this is its first line.
+     *
+     * @param propertyName
+     *            the property name
+     * @return the location of the property, or {@code null} if the property is not present
+     */
+    @Override
+    public String getLocation(String propertyName) {
+        return location(state.get(), propertyName);
+    }
+
+    @Override
+    public long getVersion() {
+        return state.get().version;
+    }
+
+    /**
+     * Return a view of the current content of the file, which does not change when the file is reloaded.
+     *
+     * @return a view of the current content of the file
+     */
+    @Override
+    public ConfigSource snapshot() {
+        State current = state.get();
+        String name = getName();
+        int ordinal = getOrdinal();
+        return new ConfigSource() {
+            @Override
+            public Set<String> getPropertyNames() {
+                return current.properties.keySet();
+            }
+
+            @Override
+            public Map<String, String> getProperties() {
+                return current.properties;
+            }
+
+            @Override
+            public String getValue(String propertyName) {
+                return current.properties.get(propertyName);
+            }
+
+            @Override
+            public String getLocation(String propertyName) {
+                return location(current, propertyName);
+            }
+
+            @Override
+            public long getVersion() {
+                return current.version;
+            }
+
+            @Override
+            public int getOrdinal() {
+                return ordinal;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    @Override
+    public boolean addChangeListener(ConfigSourceChangeListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+        return true;
+    }
+
+    @Override
+    public void removeChangeListener(ConfigSourceChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public String getName() {
+        return "property-file " + file;
+    }
+
+    /**
+     * Stop watching the file.
+     */
+    @Override
+    public void close() {
+        watcher.close();
+    }
+
+    private String location(State current, String propertyName) {
+        int index = Arrays.binarySearch(current.names, propertyName);
+        return index < 0 ? null : file + ":" + current.lines[index];
+    }
+
+    private State read(long version) throws IOException {
+        BasicFileAttributes attributes = attributes();
+        if (attributes == null) {
+            return State.empty(version);
+        }
+        String content;
+        try {
+            content = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return State.empty(version);
+        }
+        // each entry is decoded on its own, so that its line is known without relying on how Properties#load fills
+        // the properties
+        Map<String, String> map = new HashMap<>();
+        Map<String, Integer> entryLines = new HashMap<>();
+        Properties entry = new Properties();
+        int[] entries = entries(content);
+        for (int i = 0; i < entries.length; i += 3) {
+            entry.clear();
+            entry.load(new StringReader(content.substring(entries[i + 1], entries[i + 2])));
+            for (String name : entry.stringPropertyNames()) {
+                // a property defined several times keeps its last value, and is located at its last definition
+                map.put(name, entry.getProperty(name));
+                entryLines.put(name, entries[i]);
+            }
+        }
+        String[] names = map.keySet().toArray(new String[0]);
+        Arrays.sort(names);
+        int[] lines = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            lines[i] = entryLines.get(names[i]);
+        }
+        return new State(version, Collections.unmodifiableMap(map), names, lines, attributes);
+    }
+
+    /**
+     * Split the specified content into the entries of the {@linkplain Properties#load(Reader) properties format}, and
+     * return the first line, the start offset and the end offset of each entry, in this order: blank lines and comment
+     * lines are skipped, and a line ending with an odd number of backslashes continues on the next line.
+     */
+    private static int[] entries(String content) {
+        int[] entries = new int[48];
+        int count = 0;
+        int line = 0;
+        boolean continued = false;
+        int position = 0;
+        int length = content.length();
+        while (position < length) {
+            int end = position;
+            while (end < length && content.charAt(end) != '\n' && content.charAt(end) != '\r') {
+                end++;
+            }
+            line++;
+            int first = position;
+            while (first < end && isWhitespace(content.charAt(first))) {
+                first++;
+            }
+            if (continued) {
+                // a blank line ends the entry which it continues
+                continued = first < end && isContinued(content, first, end);
+                entries[count - 1] = end;
+            } else if (first < end && content.charAt(first) != '#' && content.charAt(first) != '!') {
+                if (count == entries.length) {
+                    entries = Arrays.copyOf(entries, count * 2);
+                }
+                entries[count++] = line;
+                entries[count++] = first;
+                entries[count++] = end;
+                continued = isContinued(content, first, end);
+            }
+            if (end + 1 < length && content.charAt(end) == '\r' && content.charAt(end + 1) == '\n') {
+                end++;
+            }
+            position = end + 1;
+        }
+        return Arrays.copyOf(entries, count);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    private static boolean isContinued(String content, int first, int end) {
+        int backslashes = 0;
+        for (int i = end - 1; i >= first && content.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    private BasicFileAttributes attributes() throws IOException {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void notifyListeners(Set<String> propertyNames) {
+        for (ConfigSourceChangeListener listener : listeners) {
+            try {
+                listener.onChange(this, propertyNames);
+            } catch (RuntimeException e) {
+                // a failing listener must not prevent the other listeners from being notified
+            }
+        }
+    }
+
+    /**
+     * The immutable content of the file at a given version.
+     */
+    private static final class State {
+        private final long version;
+        private final Map<String, String> properties;
+        private final String[] names;
+        private final int[] lines;
+        private final FileTime lastModified;
+        private final long size;
+
+        private State(long version, Map<String, String> properties, String[] names, int[] lines,
+                BasicFileAttributes attributes) {
+            this(version, properties, names, lines, attributes == null ? null : attributes.lastModifiedTime(),
+                    attributes == null ? -1 : attributes.size());
+        }
+
+        private State(long version, Map<String, String> properties, String[] names, int[] lines,
+                FileTime lastModified, long size) {
+            this.version = version;
+            this.properties = properties;
+            this.names = names;
+            this.lines = lines;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        private static State empty(long version) {
+            return new State(version, Collections.emptyMap(), new String[0], new int[0], null);
+        }
+
+        private boolean isSameFile(BasicFileAttributes attributes) {
+            if (attributes == null) {
+                return lastModified == null;
+            }
+            return attributes.lastModifiedTime().equals(lastModified) && attributes.size() == size;
+        }
+
+        private Set<String> diff(State other) {
+            Set<String> changed = new HashSet<>();
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                if (!entry.getValue().equals(other.properties.get(entry.getKey()))) {
+                    changed.add(entry.getKey());
+                }
+            }
+            for (String name : other.properties.keySet()) {
+                if (!properties.containsKey(name)) {
+                    changed.add(name);
+                }
+            }
+            return Collections.unmodifiableSet(changed);
+        }
+
+        private State withVersion(long newVersion) {
+            return new State(newVersion, properties, names, lines, lastModified, size);
+        }
+
+        private State withAttributes(State other) {
+            return new State(version, properties, other.names, other.lines, other.lastModified, other.size);
+        }
+    }
+}
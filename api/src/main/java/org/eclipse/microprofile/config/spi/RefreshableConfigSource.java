@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.spi;
+
+import java.time.Duration;
+
+/**
+ * A {@link ConfigSource} whose data is periodically reloaded from its backing store by the configuration.
+ * <p>
+ * Instead of starting its own polling thread, or reading its backing store on each call to
+ * {@link #getValue(String)}, a configuration source implementing this interface lets the configuration schedule the
+ * invocations of {@link #refresh()}. The implementation runs the refreshes of all the refreshable configuration
+ * sources on a single scheduler with a small number of threads, shared by all the configurations, or on the scheduler
+ * specified with
+ * {@link ConfigBuilder#withRefreshExecutor(java.util.concurrent.ScheduledExecutorService)}. Since the lookups only
+ * read the data loaded by the last refresh, they never block on the I/O of the configuration source.
+ * <p>
+ * The scheduling of the refreshes follows these rules:
+ * <ul>
+ * <li>The first refresh is scheduled after the {@linkplain #getRefreshInterval() refresh interval}, once the
+ * configuration is built; the configuration source is expected to load its initial data when it is created.</li>
+ * <li>Each refresh is scheduled after the previous one has completed, delayed by the refresh interval plus or minus a
+ * random delay of at most the {@linkplain #getRefreshJitter() jitter}, so that the configuration sources with the same
+ * interval do not all refresh at the same time.</li>
+ * <li>After a failed refresh, the delay before the next attempt is doubled, up to the
+ * {@linkplain #getMaxRefreshBackoff() maximum backoff}, and is reset to the refresh interval after a successful
+ * refresh.</li>
+ * <li>The refreshes of a configuration source are never executed concurrently, and a configuration source used by
+ * several configurations is only refreshed once per interval.</li>
+ * <li>The refreshes stop once all the configurations which use the configuration source are released.</li>
+ * </ul>
+ * <p>
+ * A refresh should replace the data of the configuration source as a whole, e.g. by publishing a new immutable
+ * structure, so that lookups performed during the refresh observe either the old or the new data. If the data has
+ * changed, the configuration source should then update its {@linkplain #getVersion() version} and notify its
+ * {@linkplain #addChangeListener(ConfigSourceChangeListener) change listeners}. A failed refresh must keep the
+ * previously loaded data.
+ *
+ * @since 3.2
+ */
+public interface RefreshableConfigSource extends ConfigSource {
+    /**
+     * Reload the data of this configuration source from its backing store.
+     * <p>
+     * This method is invoked by the scheduler of the configuration, and may block while performing I/O; it must not
+     * hold a monitor while doing so. If it throws an exception, the previously loaded data is kept and the next
+     * attempt is delayed according to the backoff rules.
+     *
+     * @throws Exception
+     *             if the data cannot be reloaded
+     */
+    void refresh() throws Exception;
+
+    /**
+     * Return the delay between the completion of a refresh and the start of the next one.
+     * <p>
+     * The default implementation returns 30 seconds.
+     *
+     * @return the refresh interval, which must be positive
+     */
+    default Duration getRefreshInterval() {
+        return Duration.ofSeconds(30);
+    }
+
+    /**
+     * Return the maximum random delay added to or subtracted from the refresh interval when scheduling a refresh.
+     * <p>
+     * The default implementation returns a tenth of the {@linkplain #getRefreshInterval() refresh interval}.
+     *
+     * @return the jitter, which must be zero or positive, and shorter than the refresh interval
+     */
+    default Duration getRefreshJitter() {
+        return getRefreshInterval().dividedBy(10);
+    }
+
+    /**
+     * Return the maximum delay before the next attempt after consecutive failed refreshes.
+     * <p>
+     * The default implementation returns ten times the {@linkplain #getRefreshInterval() refresh interval}.
+     *
+     * @return the maximum backoff, which must not be shorter than the refresh interval
+     */
+    default Duration getMaxRefreshBackoff() {
+        return getRefreshInterval().multipliedBy(10);
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Verify the asynchronous lookups of {@link Config} with a {@link ConfigSource} which reads its values asynchronously.
+ */
+public class AsyncConfigSourceTest extends Arquillian {
+
+    private ExecutorService remoteExecutor;
+    private RemoteConfigSource remote;
+    private CountingConfigSource local;
+    private Config config;
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "AsyncConfigSourceTest.war")
+                .addClasses(AsyncConfigSourceTest.class, RemoteConfigSource.class, CountingConfigSource.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @BeforeClass
+    public void setUp() {
+        remoteExecutor = Executors.newSingleThreadExecutor();
+        Map<String, String> remoteProperties = new HashMap<>();
+        remoteProperties.put("tck.async.timeout", "30");
+        remoteProperties.put("tck.async.shared", "remote");
+        remoteProperties.put("tck.async.url", "http://${tck.async.host}/api");
+        remoteProperties.put("tck.async.invalid", "thirty");
+        remote = new RemoteConfigSource(remoteProperties, remoteExecutor);
+
+        Map<String, String> localProperties = new HashMap<>();
+        localProperties.put("tck.async.shared", "local");
+        localProperties.put("tck.async.host", "localhost");
+        localProperties.put("tck.async.retries", "3");
+        local = new CountingConfigSource(localProperties);
+
+        config = ConfigProviderResolver.instance().getBuilder().withSources(remote, local).build();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        remoteExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testGetValueAsync() throws Exception {
+        int blockingReads = remote.blockingReads.get();
+        int asyncReads = remote.asyncReads.get();
+        Assert.assertEquals(await(config.getValueAsync("tck.async.timeout", Integer.class)), Integer.valueOf(30));
+        Assert.assertEquals(await(config.getValueAsync("tck.async.retries", Integer.class)), Integer.valueOf(3));
+        Assert.assertEquals(await(config.getValueAsync("tck.async.url", String.class)), "http://localhost/api");
+        assertReadAsynchronously(blockingReads, asyncReads);
+    }
+
+    @Test
+    public void testGetOptionalValueAsync() throws Exception {
+        int blockingReads = remote.blockingReads.get();
+        int asyncReads = remote.asyncReads.get();
+        Assert.assertEquals(await(config.getOptionalValueAsync("tck.async.timeout", Long.class)), Optional.of(30L));
+        Assert.assertEquals(await(config.getOptionalValueAsync("tck.async.missing", Long.class)), Optional.empty());
+        assertReadAsynchronously(blockingReads, asyncReads);
+    }
+
+    @Test
+    public void testHigherOrdinalSourceWins() throws Exception {
+        int reads = local.reads("tck.async.shared");
+        Assert.assertEquals(await(config.getValueAsync("tck.async.shared", String.class)), "remote");
+        Assert.assertEquals(local.reads("tck.async.shared"), reads,
+                "The source with the lower ordinal must not be read once the value is found");
+    }
+
+    @Test
+    public void testMissingValueCompletesExceptionally() throws Exception {
+        int blockingReads = remote.blockingReads.get();
+        int asyncReads = remote.asyncReads.get();
+        assertFailure(config.getValueAsync("tck.async.missing", String.class), NoSuchElementException.class);
+        assertReadAsynchronously(blockingReads, asyncReads);
+    }
+
+    @Test
+    public void testConversionFailureCompletesExceptionally() throws Exception {
+        int blockingReads = remote.blockingReads.get();
+        int asyncReads = remote.asyncReads.get();
+        assertFailure(config.getValueAsync("tck.async.invalid", Integer.class), IllegalArgumentException.class);
+        assertFailure(config.getOptionalValueAsync("tck.async.invalid", Integer.class),
+                IllegalArgumentException.class);
+        assertReadAsynchronously(blockingReads, asyncReads);
+    }
+
+    @Test
+    public void testSynchronousLookupReadsBlocking() {
+        int blockingReads = remote.blockingReads.get();
+        Assert.assertEquals(config.getValue("tck.async.timeout", Integer.class), Integer.valueOf(30));
+        Assert.assertEquals(config.getValue("tck.async.shared", String.class), "remote");
+        Assert.assertTrue(remote.blockingReads.get() > blockingReads,
+                "A synchronous lookup must read the configuration source with ConfigSource#getValue");
+    }
+
+    /**
+     * Assert that the remote configuration source was only read with {@link ConfigSource#getValueAsync(String)}
+     * since the specified counts were taken, i.e. that the calling thread was never blocked on a remote read.
+     */
+    private void assertReadAsynchronously(int blockingReads, int asyncReads) {
+        Assert.assertEquals(remote.blockingReads.get(), blockingReads,
+                "An asynchronous lookup must not read the configuration source with ConfigSource#getValue");
+        Assert.assertTrue(remote.asyncReads.get() > asyncReads,
+                "An asynchronous lookup must read the configuration source with ConfigSource#getValueAsync");
+    }
+
+    private static <T> T await(CompletionStage<T> stage) throws Exception {
+        return stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private static void assertFailure(CompletionStage<?> stage, Class<? extends Throwable> expected)
+            throws Exception {
+        try {
+            await(stage);
+            Assert.fail("Expected the stage to complete exceptionally with " + expected.getName());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            Assert.assertTrue(expected.isInstance(cause), "Unexpected failure " + cause);
+        }
+    }
+
+    /**
+     * A {@link ConfigSource} which reads its values on another thread, as a remote source would, and counts its
+     * blocking and asynchronous reads.
+     */
+    public static class RemoteConfigSource implements ConfigSource {
+        final AtomicInteger blockingReads = new AtomicInteger();
+        final AtomicInteger asyncReads = new AtomicInteger();
+        private final Map<String, String> properties;
+        private final ExecutorService executor;
+
+        RemoteConfigSource(Map<String, String> properties, ExecutorService executor) {
+            this.properties = properties;
+            this.executor = executor;
+        }
+
+        @Override
+        public CompletionStage<String> getValueAsync(String propertyName) {
+            asyncReads.incrementAndGet();
+            return read(propertyName);
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            blockingReads.incrementAndGet();
+            return read(propertyName).toCompletableFuture().join();
+        }
+
+        private CompletableFuture<String> read(String propertyName) {
+            return CompletableFuture.supplyAsync(() -> properties.get(propertyName), executor);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getName() {
+            return RemoteConfigSource.class.getSimpleName();
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 200;
+        }
+    }
+
+    /**
+     * An in-memory {@link ConfigSource} which counts the reads of each property.
+     */
+    public static class CountingConfigSource implements ConfigSource {
+        private final Map<String, String> properties;
+        private final Map<String, AtomicInteger> reads = new ConcurrentHashMap<>();
+
+        CountingConfigSource(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        int reads(String propertyName) {
+            AtomicInteger count = reads.get(propertyName);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            reads.computeIfAbsent(propertyName, name -> new AtomicInteger()).incrementAndGet();
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getName() {
+            return CountingConfigSource.class.getSimpleName();
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 100;
+        }
+    }
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.CachingConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSourceChangeListener;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Verify the loading, reloading and eviction of the values cached by a {@link CachingConfigSource}.
+ */
+public class CachingConfigSourceTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "CachingConfigSourceTest.war")
+                .addClasses(CachingConfigSourceTest.class, CountingConfigSource.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testConcurrentLookupsShareOneLoad() throws Exception {
+        CountingConfigSource delegate = new CountingConfigSource();
+        delegate.values.put("tck.cache.endpoint", "http://one");
+        delegate.blocked = new CountDownLatch(1);
+        CachingConfigSource source = CachingConfigSource.builder(delegate).build();
+        ExecutorService lookups = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(lookups.submit(() -> source.getValue("tck.cache.endpoint")));
+            }
+            Assert.assertTrue(delegate.loading.await(10, TimeUnit.SECONDS), "The value was not loaded");
+            // let the other lookups reach the cache while the value is being loaded
+            Thread.sleep(100);
+            delegate.blocked.countDown();
+            for (Future<String> result : results) {
+                Assert.assertEquals(result.get(10, TimeUnit.SECONDS), "http://one");
+            }
+            Assert.assertEquals(delegate.loads.get(), 1, "Concurrent lookups of a value must share the same load");
+        } finally {
+            lookups.shutdownNow();
+            source.close();
+        }
+    }
+
+    @Test
+    public void testStaleValueIsReturnedWhileReloaded() {
+        CountingConfigSource delegate = new CountingConfigSource();
+        delegate.values.put("tck.cache.endpoint", "http://one");
+        Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        CachingConfigSource source = CachingConfigSource.builder(delegate)
+                .timeToLive(Duration.ZERO)
+                .maxStaleness(Duration.ofHours(1))
+                .executor(tasks::add)
+                .build();
+        List<Set<String>> changes = new CopyOnWriteArrayList<>();
+        source.addChangeListener((changed, propertyNames) -> changes.add(propertyNames));
+        try {
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://one");
+            long version = source.getVersion();
+
+            delegate.values.put("tck.cache.endpoint", "http://two");
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://one",
+                    "A stale value must be returned without waiting for its reload");
+            Assert.assertEquals(tasks.size(), 1, "A stale value must be reloaded on the executor");
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://one");
+            Assert.assertEquals(tasks.size(), 1, "A value being reloaded must not be reloaded again");
+
+            tasks.poll().run();
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://two");
+            Assert.assertNotEquals(source.getVersion(), version);
+            Assert.assertEquals(changes, Collections.singletonList(Collections.singleton("tck.cache.endpoint")));
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    public void testExpiredValueIsReloadedBeforeBeingReturned() {
+        CountingConfigSource delegate = new CountingConfigSource();
+        delegate.values.put("tck.cache.endpoint", "http://one");
+        CachingConfigSource source = CachingConfigSource.builder(delegate)
+                .timeToLive(Duration.ZERO)
+                .maxStaleness(Duration.ZERO)
+                .executor(task -> Assert.fail("An expired value must not be reloaded in the background"))
+                .build();
+        try {
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://one");
+            delegate.values.put("tck.cache.endpoint", "http://two");
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://two");
+            Assert.assertEquals(delegate.loads.get(), 2);
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    public void testValuesAreEvictedBeyondMaxSize() {
+        CountingConfigSource delegate = new CountingConfigSource();
+        for (int i = 0; i < 3; i++) {
+            delegate.values.put("tck.cache.value." + i, "value" + i);
+        }
+        CachingConfigSource source = CachingConfigSource.builder(delegate)
+                .timeToLive(Duration.ofHours(1))
+                .maxSize(2)
+                .build();
+        try {
+            source.getValue("tck.cache.value.0");
+            source.getValue("tck.cache.value.1");
+            long version = source.getVersion();
+            source.getValue("tck.cache.value.2");
+            Assert.assertNotEquals(source.getVersion(), version, "An eviction must change the version");
+
+            for (int i = 0; i < 3; i++) {
+                Assert.assertEquals(source.getValue("tck.cache.value." + i), "value" + i);
+            }
+            Assert.assertTrue(delegate.loads.get() > 3, "At most two values may stay cached");
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    public void testChangeDuringLoadIsNotCached() throws Exception {
+        CountingConfigSource delegate = new CountingConfigSource();
+        delegate.values.put("tck.cache.endpoint", "http://one");
+        delegate.blocked = new CountDownLatch(1);
+        CachingConfigSource source = CachingConfigSource.builder(delegate).timeToLive(Duration.ofHours(1)).build();
+        ExecutorService lookups = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> lookup = lookups.submit(() -> source.getValue("tck.cache.endpoint"));
+            Assert.assertTrue(delegate.loading.await(10, TimeUnit.SECONDS), "The value was not loaded");
+
+            // the value changes after the delegate read it, but before the load completes
+            delegate.values.put("tck.cache.endpoint", "http://two");
+            delegate.changed(Collections.singleton("tck.cache.endpoint"));
+            delegate.blocked.countDown();
+            Assert.assertEquals(lookup.get(10, TimeUnit.SECONDS), "http://one");
+
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://two",
+                    "A value loaded before a change notified by the delegate must not be cached");
+        } finally {
+            lookups.shutdownNow();
+            source.close();
+        }
+    }
+
+    @Test
+    public void testSnapshotIsNotAffectedByReloads() {
+        CountingConfigSource delegate = new CountingConfigSource();
+        delegate.values.put("tck.cache.endpoint", "http://one");
+        delegate.values.put("tck.cache.timeout", "10");
+        Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        CachingConfigSource source = CachingConfigSource.builder(delegate)
+                .timeToLive(Duration.ZERO)
+                .maxStaleness(Duration.ofHours(1))
+                .executor(tasks::add)
+                .build();
+        try {
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://one");
+            ConfigSource snapshot = source.snapshot();
+            long version = snapshot.getVersion();
+            Assert.assertEquals(snapshot.getName(), source.getName());
+            Assert.assertEquals(snapshot.getOrdinal(), source.getOrdinal());
+
+            delegate.values.put("tck.cache.endpoint", "http://two");
+            source.getValue("tck.cache.endpoint");
+            tasks.poll().run();
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://two");
+            delegate.changed(Collections.singleton("tck.cache.endpoint"));
+
+            Assert.assertEquals(snapshot.getValue("tck.cache.endpoint"), "http://one",
+                    "A snapshot must not observe the values reloaded or invalidated after it was taken");
+            Assert.assertEquals(snapshot.getVersion(), version);
+            Assert.assertNotEquals(source.getVersion(), version);
+            // a value which was not cached is read from the delegate
+            Assert.assertEquals(snapshot.getValue("tck.cache.timeout"), "10");
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    public void testPersistedValuesAreRestored() throws IOException {
+        Path directory = Files.createTempDirectory("tck-cache");
+        Path file = directory.resolve("cache.properties");
+        try {
+            CountingConfigSource delegate = new CountingConfigSource();
+            delegate.values.put("tck.cache.endpoint", "http://one");
+            CachingConfigSource source = CachingConfigSource.builder(delegate).persistTo(file).build();
+            Assert.assertEquals(source.getValue("tck.cache.endpoint"), "http://one");
+            source.close();
+            Assert.assertTrue(Files.isRegularFile(file), "The cached values must be persisted when closing");
+
+            CountingConfigSource restarted = new CountingConfigSource();
+            Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+            CachingConfigSource restored = CachingConfigSource.builder(restarted)
+                    .persistTo(file)
+                    .executor(tasks::add)
+                    .build();
+            try {
+                Assert.assertEquals(restored.getValue("tck.cache.endpoint"), "http://one");
+                Assert.assertEquals(restarted.loads.get(), 0, "A restored value must be returned without being loaded");
+                Assert.assertFalse(tasks.isEmpty(), "A restored value must be reloaded in the background");
+            } finally {
+                restored.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testPersistedPropertyNamesAreRestored() throws IOException {
+        Path directory = Files.createTempDirectory("tck-cache");
+        Path file = directory.resolve("cache.properties");
+        try {
+            CountingConfigSource delegate = new CountingConfigSource();
+            delegate.values.put("tck.cache.a", "a");
+            delegate.values.put("tck.cache.b", "b");
+            delegate.values.put("tck.cache.c", "c");
+            CachingConfigSource source = CachingConfigSource.builder(delegate).persistTo(file).build();
+            source.getValue("tck.cache.a");
+            source.getPropertyNames();
+            source.close();
+
+            CountingConfigSource restarted = new CountingConfigSource();
+            restarted.values.put("tck.cache.other", "other");
+            CachingConfigSource restored = CachingConfigSource.builder(restarted)
+                    .persistTo(file)
+                    .executor(task -> {
+                    })
+                    .build();
+            try {
+                Assert.assertEquals(restored.getPropertyNames(),
+                        new HashSet<>(Arrays.asList("tck.cache.a", "tck.cache.b", "tck.cache.c")),
+                        "All the cached property names must be restored, and not only those which were looked up");
+            } finally {
+                restored.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testPropertyNamesNotCachedAreNotRestored() throws IOException {
+        Path directory = Files.createTempDirectory("tck-cache");
+        Path file = directory.resolve("cache.properties");
+        try {
+            CountingConfigSource delegate = new CountingConfigSource();
+            delegate.values.put("tck.cache.a", "a");
+            delegate.values.put("tck.cache.b", "b");
+            CachingConfigSource source = CachingConfigSource.builder(delegate).persistTo(file).build();
+            source.getValue("tck.cache.a");
+            source.close();
+
+            CountingConfigSource restarted = new CountingConfigSource();
+            restarted.values.put("tck.cache.a", "a");
+            restarted.values.put("tck.cache.b", "b");
+            CachingConfigSource restored = CachingConfigSource.builder(restarted).persistTo(file).build();
+            try {
+                Assert.assertEquals(restored.getPropertyNames(),
+                        new HashSet<>(Arrays.asList("tck.cache.a", "tck.cache.b")),
+                        "The property names must be loaded from the delegate when they were not persisted");
+            } finally {
+                restored.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testPersistedFileWithInvalidChecksumIsIgnored() throws IOException {
+        Path directory = Files.createTempDirectory("tck-cache");
+        Path file = directory.resolve("cache.properties");
+        try {
+            CountingConfigSource delegate = new CountingConfigSource();
+            delegate.values.put("tck.cache.endpoint", "http://one");
+            CachingConfigSource source = CachingConfigSource.builder(delegate).persistTo(file).build();
+            source.getValue("tck.cache.endpoint");
+            source.close();
+
+            String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Assert.assertTrue(content.contains("http\\://one"), content);
+            Files.write(file, content.replace("http\\://one", "http\\://evil").getBytes(StandardCharsets.UTF_8));
+
+            CountingConfigSource restarted = new CountingConfigSource();
+            restarted.values.put("tck.cache.endpoint", "http://two");
+            CachingConfigSource restored = CachingConfigSource.builder(restarted).persistTo(file).build();
+            try {
+                Assert.assertEquals(restored.getValue("tck.cache.endpoint"), "http://two",
+                        "A persisted file whose checksum does not match its content must be ignored");
+                Assert.assertEquals(restarted.loads.get(), 1);
+            } finally {
+                restored.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testLookupAfterCloseIsNeitherCachedNorPersisted() throws IOException {
+        Path directory = Files.createTempDirectory("tck-cache");
+        Path file = directory.resolve("cache.properties");
+        try {
+            CountingConfigSource delegate = new CountingConfigSource();
+            delegate.values.put("tck.cache.endpoint", "http://one");
+            delegate.values.put("tck.cache.timeout", "10");
+            Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+            CachingConfigSource source = CachingConfigSource.builder(delegate)
+                    .persistTo(file)
+                    .executor(tasks::add)
+                    .build();
+            source.getValue("tck.cache.endpoint");
+            Assert.assertEquals(tasks.size(), 1, "A write of the cached values must be pending");
+            source.close();
+            String persisted = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+            // the pending write is cancelled, and must not replace the file written when closing
+            tasks.poll().run();
+            Assert.assertEquals(source.getValue("tck.cache.timeout"), "10");
+            Assert.assertEquals(source.getValue("tck.cache.timeout"), "10");
+            Assert.assertEquals(delegate.loads.get(), 3, "A value looked up after closing must not be cached");
+            Assert.assertTrue(tasks.isEmpty(), "A value looked up after closing must not be persisted");
+            Assert.assertEquals(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), persisted);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * A {@link ConfigSource} which counts its lookups, may block them, and notifies the changes of its values on
+     * demand.
+     */
+    public static class CountingConfigSource implements ConfigSource {
+        final Map<String, String> values = new ConcurrentHashMap<>();
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        volatile CountDownLatch blocked;
+        private final List<ConfigSourceChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String getValue(String propertyName) {
+            loads.incrementAndGet();
+            String value = values.get(propertyName);
+            loading.countDown();
+            CountDownLatch latch = blocked;
+            if (latch != null) {
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return values.keySet();
+        }
+
+        @Override
+        public String getName() {
+            return CountingConfigSource.class.getSimpleName();
+        }
+
+        @Override
+        public boolean addChangeListener(ConfigSourceChangeListener listener) {
+            listeners.add(listener);
+            return true;
+        }
+
+        @Override
+        public void removeChangeListener(ConfigSourceChangeListener listener) {
+            listeners.remove(listener);
+        }
+
+        void changed(Set<String> propertyNames) {
+            for (ConfigSourceChangeListener listener : listeners) {
+                listener.onChange(this, propertyNames);
+            }
+        }
+    }
+}
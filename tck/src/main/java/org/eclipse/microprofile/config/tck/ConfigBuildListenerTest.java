@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigBuildListener;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.tck.configsources.CustomDbConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Verify that a {@link ConfigBuildListener} is notified while building a {@link Config}, and that concurrent discovery
+ * does not change the resulting configuration.
+ */
+public class ConfigBuildListenerTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap
+                .create(JavaArchive.class, "configBuildListenerTest.jar")
+                .addClasses(ConfigBuildListenerTest.class, CustomDbConfigSource.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsServiceProvider(ConfigSource.class, CustomDbConfigSource.class)
+                .as(JavaArchive.class);
+
+        return ShrinkWrap
+                .create(WebArchive.class, "configBuildListenerTest.war")
+                .addAsLibrary(testJar);
+    }
+
+    @Test
+    public void testPhasesAndSourcesReported() {
+        RecordingListener listener = new RecordingListener();
+        Config config = ConfigProviderResolver.instance().getBuilder()
+                .addDefaultSources()
+                .addDiscoveredSources()
+                .withBuildListeners(listener)
+                .build();
+
+        Assert.assertEquals(config.getValue("tck.config.test.customDbConfig.key1", String.class), "valueFromDb1");
+        Assert.assertTrue(listener.phases.containsKey(ConfigBuildListener.Phase.DEFAULT_SOURCES));
+        Assert.assertTrue(listener.phases.containsKey(ConfigBuildListener.Phase.DISCOVERED_SOURCES));
+        Assert.assertEquals(listener.phases.get(ConfigBuildListener.Phase.BUILD).size(), 1);
+        Assert.assertTrue(listener.sources.contains("customDbConfig"),
+                "Expected the discovered CustomDbConfigSource to be reported, but got " + listener.sources);
+        for (List<Duration> durations : listener.phases.values()) {
+            for (Duration duration : durations) {
+                Assert.assertFalse(duration.isNegative());
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentDiscoveryKeepsOrdering() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Config sequential = ConfigProviderResolver.instance().getBuilder()
+                    .addDefaultSources()
+                    .addDiscoveredSources()
+                    .build();
+            Config concurrent = ConfigProviderResolver.instance().getBuilder()
+                    .addDefaultSources()
+                    .addDiscoveredSources()
+                    .withDiscoveryExecutor(executor)
+                    .build();
+
+            List<String> expected = new ArrayList<>();
+            sequential.getConfigSources().forEach(source -> expected.add(source.getName()));
+            List<String> actual = new ArrayList<>();
+            concurrent.getConfigSources().forEach(source -> actual.add(source.getName()));
+            Assert.assertEquals(actual, expected);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static class RecordingListener implements ConfigBuildListener {
+        private final Map<Phase, List<Duration>> phases = new ConcurrentHashMap<>();
+        private final List<String> sources = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void phaseCompleted(Phase phase, Duration duration) {
+            phases.computeIfAbsent(phase, p -> new CopyOnWriteArrayList<>()).add(duration);
+        }
+
+        @Override
+        public void sourceLoaded(ConfigSource source, Duration duration) {
+            sources.add(source.getName());
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.inject.ConfigChangeBatchEvent;
+import org.eclipse.microprofile.config.inject.ConfigChangeEvent;
+import org.eclipse.microprofile.config.inject.ConfigChanged;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSourceChangeListener;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Verify that a {@link ConfigChangeEvent} is fired for the properties changed in a {@link ConfigSource} which notifies
+ * its changes, and that the {@link ConfigChanged} qualifier selects the events by property name or prefix.
+ */
+public class ConfigChangeEventTest extends Arquillian {
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigChangeEventTest.war")
+                .addClasses(ConfigChangeEventTest.class, ChangeObserver.class, AbstractNotifyingConfigSource.class,
+                        NotifyingConfigSource.class, LowerNotifyingConfigSource.class)
+                .addAsServiceProvider(ConfigSource.class, NotifyingConfigSource.class,
+                        LowerNotifyingConfigSource.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private ChangeObserver observer;
+
+    // the configuration sources are shared by the tests, which therefore each change their own properties, so that
+    // they do not depend on the order in which they run
+    @BeforeMethod
+    public void clear() {
+        observer.all.clear();
+        observer.byName.clear();
+        observer.byPrefix.clear();
+        observer.batches.clear();
+    }
+
+    @Test
+    public void testChangeEventFired() {
+        NotifyingConfigSource.INSTANCE.set("tck.config.test.change.pool.size", "10");
+        awaitEvents(() -> observer.byName, 1);
+
+        ConfigChangeEvent event = observer.byName.get(0);
+        assertEquals(event.getName(), "tck.config.test.change.pool.size");
+        assertNull(event.getOldValue().getValue());
+        assertEquals(event.getNewValue().getValue(), "10");
+        assertEquals(event.getNewValue().getSourceName(), NotifyingConfigSource.class.getSimpleName());
+        awaitEvents(() -> observer.byPrefix, 1);
+        awaitEvents(() -> observer.all, 1);
+
+        NotifyingConfigSource.INSTANCE.set("tck.config.test.change.pool.size", "20");
+        awaitEvents(() -> observer.byName, 2);
+        event = observer.byName.get(1);
+        assertEquals(event.getOldValue().getValue(), "10");
+        assertEquals(event.getNewValue().getValue(), "20");
+    }
+
+    @Test
+    public void testPrefixSelection() {
+        NotifyingConfigSource.INSTANCE.set("tck.config.test.change.pool.timeout", "30");
+        NotifyingConfigSource.INSTANCE.set("tck.config.test.change.other", "value");
+        awaitEvents(() -> observer.all, 2);
+
+        assertEquals(observer.byPrefix.size(), 1);
+        assertEquals(observer.byPrefix.get(0).getName(), "tck.config.test.change.pool.timeout");
+        assertTrue(observer.byName.isEmpty());
+    }
+
+    @Test
+    public void testOverriddenChangeNotFired() throws InterruptedException {
+        NotifyingConfigSource.INSTANCE.set("tck.config.test.change.overridden", "high");
+        awaitEvents(() -> observer.all, 1);
+        observer.all.clear();
+
+        LowerNotifyingConfigSource.INSTANCE.set("tck.config.test.change.overridden", "low");
+        NotifyingConfigSource.INSTANCE.set("tck.config.test.change.marker", "marker");
+        awaitEvents(() -> observer.all, 1);
+        Thread.sleep(200);
+        assertEquals(observer.all.size(), 1);
+        assertEquals(observer.all.get(0).getName(), "tck.config.test.change.marker");
+    }
+
+    @Test
+    public void testBatchEventFiredOncePerSourceChange() throws InterruptedException {
+        Map<String, String> changes = new HashMap<>();
+        changes.put("tck.config.test.change.pool.batch.min", "40");
+        changes.put("tck.config.test.change.pool.batch.max", "50");
+        changes.put("tck.config.test.change.batch", "value");
+        NotifyingConfigSource.INSTANCE.setAll(changes);
+        awaitEvents(() -> observer.byPrefix, 2);
+        awaitEvents(() -> observer.batches, 1);
+        Thread.sleep(200);
+        assertEquals(observer.batches.size(), 1, "The batch event must be fired once for the group");
+        assertTrue(observer.byName.isEmpty());
+
+        Set<String> names = new HashSet<>();
+        for (ConfigChangeEvent change : observer.batches.get(0).getChanges()) {
+            names.add(change.getName());
+        }
+        assertEquals(names, changes.keySet());
+    }
+
+    private static <E> void awaitEvents(Supplier<List<E>> events, int count) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (events.get().size() < count && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        assertEquals(events.get().size(), count, "Unexpected number of change events " + events.get());
+    }
+
+    @ApplicationScoped
+    public static class ChangeObserver {
+        final List<ConfigChangeEvent> all = new CopyOnWriteArrayList<>();
+        final List<ConfigChangeEvent> byName = new CopyOnWriteArrayList<>();
+        final List<ConfigChangeEvent> byPrefix = new CopyOnWriteArrayList<>();
+        final List<ConfigChangeBatchEvent> batches = new CopyOnWriteArrayList<>();
+
+        void onAnyChange(@Observes ConfigChangeEvent event) {
+            if (event.getName().startsWith("tck.config.test.change.")) {
+                all.add(event);
+            }
+        }
+
+        void onSizeChange(@Observes @ConfigChanged("tck.config.test.change.pool.size") ConfigChangeEvent event) {
+            byName.add(event);
+        }
+
+        void onPoolChange(@Observes @ConfigChanged("tck.config.test.change.pool") ConfigChangeEvent event) {
+            byPrefix.add(event);
+        }
+
+        void onPoolBatch(@Observes @ConfigChanged("tck.config.test.change.pool") ConfigChangeBatchEvent event) {
+            batches.add(event);
+        }
+    }
+
+    public abstract static class AbstractNotifyingConfigSource implements ConfigSource {
+        private final Map<String, String> properties = new ConcurrentHashMap<>();
+        private final List<ConfigSourceChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+        void set(String propertyName, String value) {
+            properties.put(propertyName, value);
+            for (ConfigSourceChangeListener listener : listeners) {
+                listener.onChange(this, Collections.singleton(propertyName));
+            }
+        }
+
+        void setAll(Map<String, String> changes) {
+            properties.putAll(changes);
+            for (ConfigSourceChangeListener listener : listeners) {
+                listener.onChange(this, Collections.unmodifiableSet(new HashSet<>(changes.keySet())));
+            }
+        }
+
+        @Override
+        public boolean addChangeListener(ConfigSourceChangeListener listener) {
+            listeners.add(listener);
+            return true;
+        }
+
+        @Override
+        public void removeChangeListener(ConfigSourceChangeListener listener) {
+            listeners.remove(listener);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return getClass().getSimpleName();
+        }
+    }
+
+    public static class NotifyingConfigSource extends AbstractNotifyingConfigSource {
+        static volatile NotifyingConfigSource INSTANCE;
+
+        public NotifyingConfigSource() {
+            INSTANCE = this;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 500;
+        }
+    }
+
+    public static class LowerNotifyingConfigSource extends AbstractNotifyingConfigSource {
+        static volatile LowerNotifyingConfigSource INSTANCE;
+
+        public LowerNotifyingConfigSource() {
+            INSTANCE = this;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 400;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Verify the relation between the lifecycle of a {@link ClassLoader} and the lifecycle of its {@link Config}.
+ * <p>
+ * The tests checking that an unreachable {@link ClassLoader} is not retained request a garbage collection a bounded
+ * number of times. They are skipped if the garbage collector does not collect a plain weakly reachable object either,
+ * e.g. because it ignores {@link System#gc()}.
+ */
+public class ConfigClassLoaderLifecycleTest extends Arquillian {
+
+    private static final int MAX_COLLECTIONS = 20;
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigClassLoaderLifecycleTest.war")
+                .addClass(ConfigClassLoaderLifecycleTest.class)
+                .addAsResource(new StringAsset("tck.config.test.lifecycle.key=parentValue\n"),
+                        "META-INF/microprofile-config.properties")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testChildClassLoaderWithoutResources() throws Exception {
+        ClassLoader parent = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader child = new URLClassLoader(new URL[0], parent)) {
+            Config parentConfig = ConfigProvider.getConfig(parent);
+            Config childConfig = ConfigProvider.getConfig(child);
+
+            Assert.assertNotSame(childConfig, parentConfig);
+            Assert.assertSame(ConfigProvider.getConfig(child), childConfig);
+            Assert.assertEquals(childConfig.getValue("tck.config.test.lifecycle.key", String.class), "parentValue");
+
+            ConfigProviderResolver.instance().releaseConfig(childConfig);
+            Assert.assertSame(ConfigProvider.getConfig(parent), parentConfig);
+            Assert.assertEquals(parentConfig.getValue("tck.config.test.lifecycle.key", String.class), "parentValue");
+        }
+    }
+
+    @Test
+    public void testUnreachableClassLoaderIsNotRetained() {
+        WeakReference<ClassLoader> loader = createLoaderWithConfig();
+        awaitCollection(loader);
+        Assert.assertNull(loader.get(), "The Config registry must not retain an unreachable ClassLoader");
+    }
+
+    @Test
+    public void testUnreachableClassLoaderWithRegisteredConfigIsNotRetained() {
+        WeakReference<ClassLoader> loader = registerConfigForLoader();
+        awaitCollection(loader);
+        Assert.assertNull(loader.get(), "The Config registry must not retain an unreachable ClassLoader");
+    }
+
+    private static WeakReference<ClassLoader> createLoaderWithConfig() {
+        ClassLoader loader = new URLClassLoader(new URL[0], Thread.currentThread().getContextClassLoader());
+        Assert.assertNotNull(ConfigProvider.getConfig(loader));
+        return new WeakReference<>(loader);
+    }
+
+    private static WeakReference<ClassLoader> registerConfigForLoader() {
+        ClassLoader loader = new URLClassLoader(new URL[0], Thread.currentThread().getContextClassLoader());
+        Config config = ConfigProviderResolver.instance().getBuilder()
+                .forClassLoader(loader)
+                .addDefaultSources()
+                .build();
+        ConfigProviderResolver.instance().registerConfig(config, loader);
+        return new WeakReference<>(loader);
+    }
+
+    private static void awaitCollection(WeakReference<?> reference) {
+        // a reference to an object which is not related to the Config, to detect whether a collection happened
+        WeakReference<Object> control = new WeakReference<>(new Object());
+        List<byte[]> pressure = new ArrayList<>();
+        for (int i = 0; i < MAX_COLLECTIONS && (reference.get() != null || control.get() != null); i++) {
+            System.gc();
+            if (pressure.size() < 16) {
+                pressure.add(new byte[1024 * 1024]);
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SkipException("Interrupted while waiting for a garbage collection");
+            }
+        }
+        if (control.get() != null) {
+            throw new SkipException("A garbage collection could not be forced");
+        }
+    }
+}
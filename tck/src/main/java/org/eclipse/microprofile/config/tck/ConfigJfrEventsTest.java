@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.jfr.ConfigConversionEvent;
+import org.eclipse.microprofile.config.jfr.ConfigLookupEvent;
+import org.eclipse.microprofile.config.jfr.ConfigSourceReadEvent;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Verify that the Flight Recorder events of the {@code org.eclipse.microprofile.config.jfr} package are emitted for a
+ * lookup, a conversion and a read of a {@link ConfigSource}.
+ * <p>
+ * The test is skipped if the Java runtime does not provide the {@code jdk.jfr} module, or if Flight Recorder is not
+ * available.
+ */
+public class ConfigJfrEventsTest extends Arquillian {
+
+    private static final String PROPERTY_NAME = "tck.config.test.jfr.port";
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigJfrEventsTest.war")
+                .addClasses(ConfigJfrEventsTest.class, JfrConfigSource.class, Port.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testEventsEmitted() throws Exception {
+        if (!ModuleLayer.boot().findModule("jdk.jfr").isPresent() || !FlightRecorder.isAvailable()) {
+            throw new SkipException("Flight Recorder is not available");
+        }
+        Config config = ConfigProviderResolver.instance().getBuilder()
+                .withSources(new JfrConfigSource())
+                .withConverter(Port.class, 100, value -> new Port(Integer.parseInt(value)))
+                .build();
+
+        Path file = Files.createTempFile("ConfigJfrEventsTest", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                // a threshold of zero records every event, and not only the slow ones
+                recording.enable(ConfigLookupEvent.NAME).withThreshold(Duration.ZERO);
+                recording.enable(ConfigConversionEvent.NAME).withThreshold(Duration.ZERO);
+                recording.enable(ConfigSourceReadEvent.NAME).withThreshold(Duration.ZERO);
+                recording.start();
+                Assert.assertEquals(config.getValue(PROPERTY_NAME, Port.class).number, 8080);
+                recording.stop();
+                recording.dump(file);
+            }
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            RecordedEvent lookup = find(events, ConfigLookupEvent.NAME);
+            Assert.assertTrue(lookup.getBoolean("found"));
+            Assert.assertEquals(lookup.getString("sourceName"), JfrConfigSource.NAME);
+
+            find(events, ConfigConversionEvent.NAME);
+
+            RecordedEvent read = find(events, ConfigSourceReadEvent.NAME);
+            Assert.assertTrue(read.getBoolean("found"));
+            Assert.assertEquals(read.getString("sourceName"), JfrConfigSource.NAME);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String eventName) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(eventName)
+                    && PROPERTY_NAME.equals(event.getString("propertyName"))) {
+                return event;
+            }
+        }
+        throw new AssertionError("No " + eventName + " event was recorded for " + PROPERTY_NAME);
+    }
+
+    public static class Port {
+        private final int number;
+
+        public Port(int number) {
+            this.number = number;
+        }
+    }
+
+    public static class JfrConfigSource implements ConfigSource {
+        static final String NAME = "JfrConfigSource";
+
+        private final Map<String, String> properties = Collections.singletonMap(PROPERTY_NAME, "8080");
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+    }
+}
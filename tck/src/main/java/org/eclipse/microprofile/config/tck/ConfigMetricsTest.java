@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigMetrics;
+import org.eclipse.microprofile.config.PropertyMetrics;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Verify the per-property lookup statistics exposed by {@link Config#getMetrics()}.
+ */
+public class ConfigMetricsTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deployment() {
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigMetricsTest.war")
+                .addClass(ConfigMetricsTest.class)
+                .addAsResource(
+                        new StringAsset(
+                                Config.METRICS_ENABLED + "=true\n" +
+                                        "tck.config.test.metrics.port=8080\n"),
+                        "META-INF/microprofile-config.properties")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private Config config;
+
+    @Test
+    public void testHitsAndMisses() {
+        ConfigMetrics metrics = config.getMetrics().orElseThrow(AssertionError::new);
+        metrics.reset();
+
+        config.getValue("tck.config.test.metrics.port", Integer.class);
+        config.getValue("tck.config.test.metrics.port", Integer.class);
+        config.getOptionalValue("tck.config.test.metrics.missing", String.class);
+
+        PropertyMetrics port = metrics.getPropertyMetrics("tck.config.test.metrics.port")
+                .orElseThrow(() -> new AssertionError("No metrics recorded for a looked up property"));
+        assertEquals(port.getName(), "tck.config.test.metrics.port");
+        assertEquals(port.getHitCount(), 2);
+        assertEquals(port.getMissCount(), 0);
+        assertNotNull(port.getSourceName());
+        assertFalse(port.getAverageLookupTime().isNegative());
+        assertFalse(port.getAverageConversionTime().isNegative());
+
+        PropertyMetrics missing = metrics.getPropertyMetrics("tck.config.test.metrics.missing")
+                .orElseThrow(() -> new AssertionError("No metrics recorded for the lookup of a missing property"));
+        assertEquals(missing.getHitCount(), 0);
+        assertEquals(missing.getMissCount(), 1);
+        assertEquals(missing.getAverageConversionTime(), Duration.ZERO);
+    }
+
+    @Test
+    public void testReset() {
+        ConfigMetrics metrics = config.getMetrics().orElseThrow(AssertionError::new);
+        config.getValue("tck.config.test.metrics.port", Integer.class);
+        assertTrue(metrics.getPropertyMetrics("tck.config.test.metrics.port").isPresent());
+
+        metrics.reset();
+        assertFalse(metrics.getPropertyMetrics("tck.config.test.metrics.port").isPresent());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.inject.Inject;
+
+/**
+ * Verify the support of interfaces annotated with {@link ConfigProperties}.
+ */
+public class ConfigPropertiesInterfaceTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigPropertiesInterfaceTest.war")
+                .addClasses(ConfigPropertiesInterfaceTest.class, ServerConfig.class, InjectingBean.class)
+                .addAsResource(
+                        new StringAsset(
+                                "server.host=localhost\n" +
+                                        "server.port=9080\n" +
+                                        "server.old.location=London\n" +
+                                        "client.host=myhost\n" +
+                                        "client.port=9081\n" +
+                                        "client.old.location=Dublin\n" +
+                                        "client.threads=16\n" +
+                                        "client.context=shop\n"),
+                        "META-INF/microprofile-config.properties")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private InjectingBean bean;
+
+    @Test
+    public void testInterfaceInjection() {
+        ServerConfig server = bean.server;
+        Assert.assertEquals(server.host(), "localhost");
+        Assert.assertEquals(server.port(), 9080);
+        Assert.assertEquals(server.location(), "London");
+        Assert.assertEquals(server.threads(), 8);
+        Assert.assertFalse(server.context().isPresent());
+        Assert.assertEquals(server.url(), "http://localhost:9080");
+    }
+
+    @Test
+    public void testInterfaceInjectionWithPrefix() {
+        ServerConfig client = bean.client;
+        Assert.assertEquals(client.host(), "myhost");
+        Assert.assertEquals(client.port(), 9081);
+        Assert.assertEquals(client.location(), "Dublin");
+        Assert.assertEquals(client.threads(), 16);
+        Assert.assertEquals(client.context(), Optional.of("shop"));
+    }
+
+    @Test
+    public void testInterfaceProgrammaticLookup() {
+        ServerConfig client = CDI.current().select(ServerConfig.class, ConfigProperties.Literal.of("client")).get();
+        Assert.assertEquals(client.host(), "myhost");
+        Assert.assertEquals(client.port(), 9081);
+    }
+
+    @Test
+    public void testInterfaceInstanceIsImmutable() {
+        ServerConfig server = CDI.current().select(ServerConfig.class, ConfigProperties.Literal.NO_PREFIX).get();
+        System.setProperty("server.port", "7070");
+        try {
+            Assert.assertEquals(server.port(), 9080);
+            ServerConfig fresh = CDI.current().select(ServerConfig.class, ConfigProperties.Literal.NO_PREFIX).get();
+            Assert.assertEquals(fresh.port(), 7070);
+        } finally {
+            System.clearProperty("server.port");
+        }
+    }
+
+    @ConfigProperties(prefix = "server")
+    public interface ServerConfig {
+        String host();
+
+        int port();
+
+        @ConfigProperty(name = "old.location")
+        String location();
+
+        @ConfigProperty(defaultValue = "8")
+        int threads();
+
+        Optional<String> context();
+
+        default String url() {
+            return "http://" + host() + ":" + port();
+        }
+    }
+
+    @Dependent
+    public static class InjectingBean {
+        @Inject
+        @ConfigProperties
+        ServerConfig server;
+
+        @Inject
+        @ConfigProperties(prefix = "client")
+        ServerConfig client;
+    }
+}
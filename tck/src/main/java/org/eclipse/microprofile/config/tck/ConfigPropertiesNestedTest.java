@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.inject.Inject;
+
+/**
+ * Verify the binding of nested groups, maps of groups and lists of groups by {@link ConfigProperties}.
+ */
+public class ConfigPropertiesNestedTest extends Arquillian {
+
+    private static final int POOL_COUNT = 300;
+
+    @Deployment
+    public static WebArchive deploy() {
+        StringBuilder properties = new StringBuilder()
+                .append("server.host=localhost\n")
+                .append("server.tls.enabled=true\n")
+                .append("server.tls.protocol=TLSv1.3\n")
+                .append("server.tls.keystore.path=/etc/keystore.p12\n")
+                .append("server.pools.\"db.primary\".size=50\n")
+                .append("server.pools.\"db.primary\".timeout=PT1M\n")
+                .append("server.endpoints[0].path=/orders\n")
+                .append("server.endpoints[1].path=/customers\n")
+                .append("server.endpoints[3].path=/ignored\n")
+                .append("other.host=otherhost\n");
+        for (int i = 0; i < POOL_COUNT; i++) {
+            properties.append("server.pools.pool").append(i).append(".size=").append(i).append('\n');
+        }
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigPropertiesNestedTest.war")
+                .addClasses(ConfigPropertiesNestedTest.class, ServerConfig.class, ServerConfig.Tls.class,
+                        ServerConfig.Keystore.class, ServerConfig.Limits.class, ServerConfig.Pool.class,
+                        ServerConfig.Endpoint.class, InjectingBean.class)
+                .addAsResource(new StringAsset(properties.toString()), "META-INF/microprofile-config.properties")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private InjectingBean bean;
+
+    @Test
+    public void testNestedGroup() {
+        ServerConfig server = bean.server;
+        Assert.assertEquals(server.host, "localhost");
+        Assert.assertTrue(server.tls.isPresent());
+        ServerConfig.Tls tls = server.tls.get();
+        Assert.assertTrue(tls.enabled);
+        Assert.assertEquals(tls.protocol, "TLSv1.3");
+        Assert.assertEquals(tls.keystore.path, "/etc/keystore.p12");
+        Assert.assertFalse(server.proxy.isPresent());
+    }
+
+    @Test
+    public void testGroupWithOnlyDefaultValuesIsMissing() {
+        // no property server.limits.* exists, and the default value of the group does not make it present
+        Assert.assertFalse(bean.server.limits.isPresent());
+    }
+
+    @Test
+    public void testMapOfGroups() {
+        Map<String, ServerConfig.Pool> pools = bean.server.pools;
+        Assert.assertEquals(pools.size(), POOL_COUNT + 1);
+        for (int i = 0; i < POOL_COUNT; i++) {
+            ServerConfig.Pool pool = pools.get("pool" + i);
+            Assert.assertNotNull(pool, "Missing pool" + i);
+            Assert.assertEquals(pool.size, i);
+            Assert.assertEquals(pool.timeout, Duration.ofSeconds(30));
+        }
+        ServerConfig.Pool primary = pools.get("db.primary");
+        Assert.assertNotNull(primary);
+        Assert.assertEquals(primary.size, 50);
+        Assert.assertEquals(primary.timeout, Duration.ofMinutes(1));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testMapOfGroupsIsUnmodifiable() {
+        bean.server.pools.clear();
+    }
+
+    @Test
+    public void testListOfGroups() {
+        List<ServerConfig.Endpoint> endpoints = bean.server.endpoints;
+        Assert.assertEquals(endpoints.size(), 2);
+        Assert.assertEquals(endpoints.get(0).path, "/orders");
+        Assert.assertEquals(endpoints.get(1).path, "/customers");
+    }
+
+    @Test
+    public void testMissingMapAndListAreEmpty() {
+        ServerConfig other = CDI.current().select(ServerConfig.class, ConfigProperties.Literal.of("other")).get();
+        Assert.assertEquals(other.host, "otherhost");
+        Assert.assertTrue(other.pools.isEmpty());
+        Assert.assertTrue(other.endpoints.isEmpty());
+        Assert.assertFalse(other.tls.isPresent());
+        Assert.assertFalse(other.proxy.isPresent());
+    }
+
+    @ConfigProperties(prefix = "server")
+    @Dependent
+    public static class ServerConfig {
+        public String host;
+        public Optional<Tls> tls;
+        public Optional<Endpoint> proxy;
+        public Optional<Limits> limits;
+        public Map<String, Pool> pools;
+        public List<Endpoint> endpoints;
+
+        public static class Tls {
+            public boolean enabled;
+            public String protocol;
+            public Keystore keystore;
+        }
+
+        public static class Keystore {
+            public String path;
+        }
+
+        public static class Limits {
+            @ConfigProperty(defaultValue = "100")
+            public int maxConnections;
+        }
+
+        public static class Pool {
+            public int size;
+            @ConfigProperty(defaultValue = "PT30S")
+            public Duration timeout;
+        }
+
+        public static class Endpoint {
+            public String path;
+        }
+    }
+
+    @Dependent
+    public static class InjectingBean {
+        @Inject
+        @ConfigProperties
+        ServerConfig server;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.tck.configsources.VersionedConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+/**
+ * Verify that an injected {@link Supplier} of a type annotated with {@link ConfigProperties} publishes a new and
+ * consistent instance when the configuration changes.
+ */
+public class ConfigPropertiesReloadTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigPropertiesReloadTest.war")
+                .addClasses(ConfigPropertiesReloadTest.class, DataSourceConfig.class, ReloadingBean.class,
+                        VersionedConfigSource.class)
+                .addAsServiceProvider(ConfigSource.class, VersionedConfigSource.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private ReloadingBean bean;
+
+    @Inject
+    private Config config;
+
+    @Test
+    public void testReloadAfterChange() {
+        source().replace("tck.reload.db.url", "jdbc:db://one", "tck.reload.db.user", "alice");
+        DataSourceConfig first = bean.dataSource.get();
+        Assert.assertEquals(first.url, "jdbc:db://one");
+        Assert.assertEquals(first.user, "alice");
+        Assert.assertEquals(first.port, 5432);
+
+        source().replace("tck.reload.db.url", "jdbc:db://two", "tck.reload.db.user", "bob",
+                "tck.reload.db.port", "6543");
+        DataSourceConfig second = bean.dataSource.get();
+        Assert.assertEquals(second.url, "jdbc:db://two");
+        Assert.assertEquals(second.user, "bob");
+        Assert.assertEquals(second.port, 6543);
+
+        // a published instance is never modified
+        Assert.assertEquals(first.url, "jdbc:db://one");
+        Assert.assertEquals(first.user, "alice");
+        Assert.assertEquals(first.port, 5432);
+    }
+
+    @Test
+    public void testReloadWithPrefixOverride() {
+        source().replace("tck.reload.replica.url", "jdbc:replica://one", "tck.reload.replica.user",
+                "carol");
+        Assert.assertEquals(bean.replica.get().url, "jdbc:replica://one");
+
+        source().replace("tck.reload.replica.url", "jdbc:replica://two", "tck.reload.replica.user",
+                "carol");
+        Assert.assertEquals(bean.replica.get().url, "jdbc:replica://two");
+        Assert.assertEquals(bean.replica.get().user, "carol");
+    }
+
+    @Test
+    public void testFailedReloadReportsError() {
+        source().replace("tck.reload.db.url", "jdbc:db://three", "tck.reload.db.user", "dave",
+                "tck.reload.db.port", "not-a-port");
+        try {
+            bean.dataSource.get();
+            Assert.fail("Expected an IllegalArgumentException for the unconvertible port");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+
+        source().replace("tck.reload.db.url", "jdbc:db://three", "tck.reload.db.user", "dave",
+                "tck.reload.db.port", "7654");
+        Assert.assertEquals(bean.dataSource.get().port, 7654);
+    }
+
+    /**
+     * The source tracks its version and supports snapshots, so every instance must be bound from a single state, even
+     * if the versions keep changing while the group is bound.
+     */
+    @Test(timeOut = 60_000)
+    public void testConsistentGroupUnderConcurrentChanges() throws Exception {
+        source().replace("tck.reload.db.url", "jdbc:db://0", "tck.reload.db.user", "user-0");
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                readers.add(executor.submit(() -> {
+                    int reads = 0;
+                    while (running.get()) {
+                        DataSourceConfig config = bean.dataSource.get();
+                        String generation = config.url.substring("jdbc:db://".length());
+                        Assert.assertEquals(config.user, "user-" + generation,
+                                "The url and the user were bound from different states of the configuration");
+                        reads++;
+                    }
+                    return reads;
+                }));
+            }
+            Future<?> writer = executor.submit(() -> {
+                for (int generation = 1; generation <= 2_000; generation++) {
+                    source().replace("tck.reload.db.url", "jdbc:db://" + generation, "tck.reload.db.user",
+                            "user-" + generation);
+                }
+                running.set(false);
+            });
+            writer.get(50, TimeUnit.SECONDS);
+            for (Future<Integer> reader : readers) {
+                Assert.assertTrue(reader.get(10, TimeUnit.SECONDS) > 0);
+            }
+            DataSourceConfig last = bean.dataSource.get();
+            Assert.assertEquals(last.url, "jdbc:db://2000");
+            Assert.assertEquals(last.user, "user-2000");
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    private VersionedConfigSource source() {
+        return VersionedConfigSource.of(config);
+    }
+
+    @ConfigProperties(prefix = "tck.reload.db")
+    @Dependent
+    public static class DataSourceConfig {
+        public String url;
+        public String user;
+        @ConfigProperty(defaultValue = "5432")
+        public int port;
+    }
+
+    @Dependent
+    public static class ReloadingBean {
+        @Inject
+        @ConfigProperties
+        Supplier<DataSourceConfig> dataSource;
+
+        @Inject
+        @ConfigProperties(prefix = "tck.reload.replica")
+        Supplier<DataSourceConfig> replica;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Verify that {@link ConfigProvider#getConfig(ClassLoader)} returns exactly one {@link Config} per class loader when
+ * called concurrently by many threads for many class loaders.
+ */
+public class ConfigProviderConcurrencyTest extends Arquillian {
+    private static final int THREADS = 64;
+    private static final int LOADERS = 8;
+    private static final int LOOKUPS = 10_000;
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigProviderConcurrencyTest.war")
+                .addClass(ConfigProviderConcurrencyTest.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test(timeOut = 60_000)
+    public void testConcurrentLookups() throws Exception {
+        ClassLoader parent = Thread.currentThread().getContextClassLoader();
+        List<ClassLoader> loaders = new ArrayList<>();
+        for (int i = 0; i < LOADERS; i++) {
+            loaders.add(new URLClassLoader(new URL[0], parent));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Config[]>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t;
+                results.add(executor.submit(() -> {
+                    Config[] seen = new Config[LOADERS];
+                    start.await();
+                    for (int i = 0; i < LOOKUPS; i++) {
+                        int index = (offset + i) % LOADERS;
+                        Config config = ConfigProvider.getConfig(loaders.get(index));
+                        Assert.assertNotNull(config);
+                        if (seen[index] == null) {
+                            seen[index] = config;
+                        } else {
+                            Assert.assertSame(config, seen[index],
+                                    "A different Config was returned for the same class loader");
+                        }
+                    }
+                    return seen;
+                }));
+            }
+            start.countDown();
+
+            Config[] expected = results.get(0).get();
+            for (Future<Config[]> result : results) {
+                Config[] seen = result.get();
+                for (int i = 0; i < LOADERS; i++) {
+                    Assert.assertSame(seen[i], expected[i], "Threads observed different Configs for one class loader");
+                }
+            }
+            for (int i = 0; i < LOADERS; i++) {
+                for (int j = i + 1; j < LOADERS; j++) {
+                    Assert.assertNotSame(expected[i], expected[j], "Class loaders must not share a Config");
+                }
+            }
+            for (Config config : expected) {
+                ConfigProviderResolver.instance().releaseConfig(config);
+            }
+        } finally {
+            executor.shutdownNow();
+            Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
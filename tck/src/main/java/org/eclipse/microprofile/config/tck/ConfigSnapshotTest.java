@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigSnapshot;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.tck.configsources.VersionedConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Verify that a {@link ConfigSnapshot} resolves all its lookups from a single state of the configuration sources.
+ */
+public class ConfigSnapshotTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigSnapshotTest.war")
+                .addClasses(ConfigSnapshotTest.class, VersionedConfigSource.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testSnapshotIsNotAffectedByChanges() {
+        VersionedConfigSource source = new VersionedConfigSource();
+        source.replace("db.user", "alice", "db.password", "secret1");
+        Config config = buildConfig(source);
+
+        try (ConfigSnapshot snapshot = config.snapshot()) {
+            Assert.assertEquals(snapshot.getValue("db.user", String.class), "alice");
+            source.replace("db.user", "bob", "db.password", "secret2", "db.timeout", "30");
+            Assert.assertEquals(snapshot.getValue("db.password", String.class), "secret1");
+            Assert.assertFalse(snapshot.getOptionalValue("db.timeout", Integer.class).isPresent());
+            Assert.assertEquals(snapshot.getConfigValue("db.password").getValue(), "secret1");
+
+            // the configuration itself observes the change
+            Assert.assertEquals(config.getValue("db.user", String.class), "bob");
+            Assert.assertEquals(config.getValue("db.timeout", Integer.class), Integer.valueOf(30));
+        }
+
+        try (ConfigSnapshot snapshot = config.snapshot()) {
+            Assert.assertEquals(snapshot.getValue("db.user", String.class), "bob");
+            Assert.assertEquals(snapshot.getValue("db.password", String.class), "secret2");
+        }
+    }
+
+    @Test
+    public void testSnapshotPropertyNames() {
+        VersionedConfigSource source = new VersionedConfigSource();
+        source.replace("db.user", "alice");
+        Config config = buildConfig(source);
+
+        try (ConfigSnapshot snapshot = config.snapshot()) {
+            source.replace("db.user", "alice", "db.password", "secret");
+            boolean found = false;
+            for (String name : snapshot.getPropertyNames()) {
+                Assert.assertNotEquals(name, "db.password");
+                found |= name.equals("db.user");
+            }
+            Assert.assertTrue(found);
+        }
+    }
+
+    @Test
+    public void testSnapshotExpandsExpressionsFromSameState() {
+        VersionedConfigSource source = new VersionedConfigSource();
+        source.replace("db.host", "one", "db.url", "jdbc:db://${db.host}/orders");
+        Config config = buildConfig(source);
+
+        try (ConfigSnapshot snapshot = config.snapshot()) {
+            source.replace("db.host", "two", "db.url", "jdbc:db://${db.host}/orders");
+            Assert.assertEquals(snapshot.getValue("db.url", String.class), "jdbc:db://one/orders");
+        }
+        Assert.assertEquals(config.getValue("db.url", String.class), "jdbc:db://two/orders");
+    }
+
+    @Test
+    public void testSnapshotOfSnapshot() {
+        VersionedConfigSource source = new VersionedConfigSource();
+        source.replace("db.user", "alice");
+        Config config = buildConfig(source);
+
+        try (ConfigSnapshot snapshot = config.snapshot()) {
+            source.replace("db.user", "bob");
+            ConfigSnapshot nested = snapshot.snapshot();
+            Assert.assertEquals(nested.getValue("db.user", String.class), "alice");
+        }
+    }
+
+    @Test
+    public void testClosingSnapshotOfSnapshotKeepsSnapshotOpen() {
+        VersionedConfigSource source = new VersionedConfigSource();
+        source.replace("db.user", "alice");
+        try (ConfigSnapshot snapshot = buildConfig(source).snapshot()) {
+            // generic code taking and closing a snapshot of the Config it receives
+            try (ConfigSnapshot view = snapshot.snapshot()) {
+                Assert.assertEquals(view.getValue("db.user", String.class), "alice");
+            }
+            Assert.assertEquals(snapshot.getValue("db.user", String.class), "alice",
+                    "Closing the snapshot of a snapshot must not close the snapshot");
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testSnapshotOfSnapshotIsClosedWithSnapshot() {
+        VersionedConfigSource source = new VersionedConfigSource();
+        source.replace("db.user", "alice");
+        ConfigSnapshot snapshot = buildConfig(source).snapshot();
+        ConfigSnapshot view = snapshot.snapshot();
+        snapshot.close();
+        view.getValue("db.user", String.class);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testClosedSnapshot() {
+        VersionedConfigSource source = new VersionedConfigSource();
+        source.replace("db.user", "alice");
+        ConfigSnapshot snapshot = buildConfig(source).snapshot();
+        snapshot.close();
+        // closing twice has no effect
+        snapshot.close();
+        snapshot.getValue("db.user", String.class);
+    }
+
+    private static Config buildConfig(ConfigSource source) {
+        return ConfigProviderResolver.instance().getBuilder().withSources(source).build();
+    }
+}
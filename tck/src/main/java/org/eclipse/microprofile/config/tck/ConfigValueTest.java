@@ -20,11 +20,13 @@ package org.eclipse.microprofile.config.tck;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.config.ConfigValue;
@@ -47,7 +49,7 @@ public class ConfigValueTest extends Arquillian {
                 .create(WebArchive.class, "ConfigValueTest.war")
                 .addClasses(ConfigValueBean.class)
                 .addAsServiceProvider(ConfigSource.class, ConfigValueConfigSource.class,
-                        ConfigValueLowerConfigSource.class)
+                        ConfigValueLowerConfigSource.class, ConfigValueDynamicConfigSource.class)
                 .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
     }
 
@@ -71,6 +73,63 @@ public class ConfigValueTest extends Arquillian {
         assertEquals(configValue.getSourceOrdinal(), 0);
     }
 
+    @Test
+    public void configValueLocation() {
+        ConfigValue configValue = ConfigProvider.getConfig().getConfigValue("my.prop");
+        assertEquals(configValue.getSourceLocation(), "ConfigValueConfigSource.properties:1");
+
+        assertNull(ConfigProvider.getConfig().getConfigValue("not.found").getSourceLocation());
+
+        ConfigValueDynamicConfigSource.PROPERTIES.put("my.dynamic.located", "value");
+        assertNull(ConfigProvider.getConfig().getConfigValue("my.dynamic.located").getSourceLocation(),
+                "A ConfigSource which does not provide a location must report a null location");
+    }
+
+    @Test
+    public void configValueUnchanged() {
+        ConfigValue first = ConfigProvider.getConfig().getConfigValue("my.prop");
+        ConfigValue second = ConfigProvider.getConfig().getConfigValue("my.prop");
+        // the instances may be shared, but must hold the same attributes
+        assertEquals(second.getName(), first.getName());
+        assertEquals(second.getValue(), first.getValue());
+        assertEquals(second.getRawValue(), first.getRawValue());
+        assertEquals(second.getSourceName(), first.getSourceName());
+        assertEquals(second.getSourceOrdinal(), first.getSourceOrdinal());
+        assertEquals(first.getRawValue(), "1234");
+    }
+
+    @Test
+    public void configValueIsImmutable() {
+        ConfigValueDynamicConfigSource.PROPERTIES.put("my.dynamic", "one");
+        ConfigValue before = ConfigProvider.getConfig().getConfigValue("my.dynamic");
+        assertEquals(before.getValue(), "one");
+
+        ConfigValueDynamicConfigSource.PROPERTIES.put("my.dynamic", "two");
+        assertEquals(before.getValue(), "one");
+        assertEquals(before.getRawValue(), "one");
+
+        ConfigValue after = ConfigProvider.getConfig().getConfigValue("my.dynamic");
+        assertEquals(after.getValue(), "two");
+        assertNotSame(after, before, "A changed value must be returned in a new ConfigValue");
+        assertEquals(before.getValue(), "one");
+    }
+
+    @Test
+    public void configValueExpansionAtLookupTime() {
+        ConfigValueDynamicConfigSource.PROPERTIES.put("my.dynamic.host", "one");
+        ConfigValueDynamicConfigSource.PROPERTIES.put("my.dynamic.url", "http://${my.dynamic.host}/path");
+        ConfigValue before = ConfigProvider.getConfig().getConfigValue("my.dynamic.url");
+
+        // the expanded value must be the one of the lookup, even if it is computed lazily
+        ConfigValueDynamicConfigSource.PROPERTIES.put("my.dynamic.host", "two");
+        assertEquals(before.getValue(), "http://one/path");
+        assertEquals(before.getRawValue(), "http://${my.dynamic.host}/path");
+
+        ConfigValue after = ConfigProvider.getConfig().getConfigValue("my.dynamic.url");
+        assertEquals(after.getValue(), "http://two/path");
+        assertNotSame(after, before, "A value whose expansion changed must be returned in a new ConfigValue");
+    }
+
     @Inject
     private ConfigValueBean configValueBean;
 
@@ -108,6 +167,11 @@ public class ConfigValueTest extends Arquillian {
             return properties.get(propertyName);
         }
 
+        @Override
+        public String getLocation(final String propertyName) {
+            return properties.containsKey(propertyName) ? getName() + ".properties:1" : null;
+        }
+
         @Override
         public String getName() {
             return this.getClass().getSimpleName();
@@ -148,6 +212,30 @@ public class ConfigValueTest extends Arquillian {
         }
     }
 
+    public static class ConfigValueDynamicConfigSource implements ConfigSource {
+        static final Map<String, String> PROPERTIES = new ConcurrentHashMap<>();
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return PROPERTIES.keySet();
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            return PROPERTIES.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return this.getClass().getSimpleName();
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 1100;
+        }
+    }
+
     @Dependent
     public static class ConfigValueBean {
         @Inject
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.DirectoryConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Verify that a {@link DirectoryConfigSource} reads one property per file, and follows the atomic updates of a
+ * Kubernetes volume.
+ */
+public class DirectoryConfigSourceTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "DirectoryConfigSourceTest.war")
+                .addClasses(DirectoryConfigSourceTest.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testSingleTrailingLineTerminatorIsRemoved() throws IOException {
+        Path directory = Files.createTempDirectory("tck-directory");
+        try {
+            write(directory.resolve("tck.lf"), "value\n");
+            write(directory.resolve("tck.crlf"), "value\r\n");
+            write(directory.resolve("tck.cr"), "value\r");
+            write(directory.resolve("tck.lines"), "first\nsecond\n\n");
+            try (DirectoryConfigSource source = new DirectoryConfigSource(directory)) {
+                Assert.assertEquals(source.getValue("tck.lf"), "value");
+                Assert.assertEquals(source.getValue("tck.crlf"), "value");
+                Assert.assertEquals(source.getValue("tck.cr"), "value");
+                Assert.assertEquals(source.getValue("tck.lines"), "first\nsecond\n");
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void testDataLinkSwapReloadsValues() throws Exception {
+        Path directory = Files.createTempDirectory("tck-directory");
+        List<Set<String>> changes = new CopyOnWriteArrayList<>();
+        try {
+            // the layout of a Kubernetes volume: each file links to the current data directory through ..data
+            Path first = Files.createDirectory(directory.resolve("..2026_01_01"));
+            write(first.resolve("db.password"), "secret1\n");
+            link(directory.resolve("..data"), first.getFileName());
+            link(directory.resolve("db.password"), Paths.get("..data", "db.password"));
+
+            try (DirectoryConfigSource source = new DirectoryConfigSource(directory, Duration.ofMillis(50))) {
+                source.addChangeListener((changed, propertyNames) -> changes.add(propertyNames));
+                Assert.assertEquals(source.getPropertyNames(), Collections.singleton("db.password"),
+                        "The entries whose name starts with a dot must be ignored");
+                Assert.assertEquals(source.getValue("db.password"), "secret1");
+                long version = source.getVersion();
+
+                Path second = Files.createDirectory(directory.resolve("..2026_01_02"));
+                write(second.resolve("db.password"), "secret2\n");
+                Path newLink = link(directory.resolve("..data_tmp"), second.getFileName());
+                Files.move(newLink, directory.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (changes.isEmpty()) {
+                    Assert.assertTrue(System.nanoTime() < deadline, "The swap of ..data was not detected in time");
+                    Thread.sleep(10);
+                    source.refresh();
+                }
+                Assert.assertEquals(changes.get(0), Collections.singleton("db.password"));
+                Assert.assertEquals(source.getValue("db.password"), "secret2");
+                Assert.assertNotEquals(source.getVersion(), version);
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void testSnapshotDoesNotReadFiles() throws Exception {
+        Path directory = Files.createTempDirectory("tck-directory");
+        try {
+            write(directory.resolve("tck.read"), "one");
+            write(directory.resolve("tck.unread"), "one");
+            try (DirectoryConfigSource source = new DirectoryConfigSource(directory, Duration.ofMillis(50))) {
+                Assert.assertEquals(source.getValue("tck.read"), "one");
+                ConfigSource snapshot = source.snapshot();
+                long version = snapshot.getVersion();
+
+                // the snapshot has not read the file, which is read on its first lookup
+                write(directory.resolve("tck.unread"), "two");
+                Assert.assertEquals(snapshot.getValue("tck.unread"), "two");
+                Assert.assertEquals(source.getValue("tck.unread"), "two");
+
+                write(directory.resolve("tck.read"), "two");
+                write(directory.resolve("tck.added"), "two");
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (!"two".equals(source.getValue("tck.read"))
+                        || !source.getPropertyNames().contains("tck.added")) {
+                    Assert.assertTrue(System.nanoTime() < deadline, "The changes were not detected in time");
+                    Thread.sleep(10);
+                    source.refresh();
+                }
+                Assert.assertEquals(snapshot.getValue("tck.read"), "one",
+                        "A snapshot must not observe the values reloaded after it was taken");
+                Assert.assertEquals(snapshot.getPropertyNames(),
+                        new HashSet<>(Arrays.asList("tck.read", "tck.unread")));
+                Assert.assertNull(snapshot.getValue("tck.added"));
+                Assert.assertEquals(snapshot.getVersion(), version);
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Path link(Path link, Path target) throws IOException {
+        try {
+            return Files.createSymbolicLink(link, target);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            throw new SkipException("Symbolic links cannot be created: " + e);
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.tck.configsources.VersionedConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+
+/**
+ * Verify that injected {@link Provider} and {@link Supplier} instances observe dynamic changes of the configuration,
+ * whether or not the changed {@link ConfigSource} tracks its {@linkplain ConfigSource#getVersion() version}.
+ */
+public class DynamicInjectionVersionTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "DynamicInjectionVersionTest.war")
+                .addClasses(DynamicInjectionVersionTest.class, DynamicBean.class, VersionedConfigSource.class,
+                        UnversionedConfigSource.class)
+                .addAsServiceProvider(ConfigSource.class, VersionedConfigSource.class,
+                        UnversionedConfigSource.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    private DynamicBean bean;
+
+    @Inject
+    private Config config;
+
+    @Test
+    public void testVersionedSourceChange() {
+        VersionedConfigSource source = VersionedConfigSource.of(config);
+        source.set("tck.config.test.versioned.timeout", "100");
+        assertEquals(bean.versionedSupplier.get(), Long.valueOf(100));
+        assertEquals(bean.versionedProvider.get(), Long.valueOf(100));
+        assertEquals(bean.versionedSupplier.get(), Long.valueOf(100));
+
+        source.set("tck.config.test.versioned.timeout", "200");
+        assertEquals(bean.versionedSupplier.get(), Long.valueOf(200));
+        assertEquals(bean.versionedProvider.get(), Long.valueOf(200));
+    }
+
+    @Test
+    public void testUnversionedSourceChange() {
+        UnversionedConfigSource.PROPERTIES.put("tck.config.test.unversioned.timeout", "300");
+        assertEquals(bean.unversionedSupplier.get(), Long.valueOf(300));
+        assertEquals(bean.unversionedProvider.get(), Long.valueOf(300));
+
+        UnversionedConfigSource.PROPERTIES.put("tck.config.test.unversioned.timeout", "400");
+        assertEquals(bean.unversionedSupplier.get(), Long.valueOf(400));
+        assertEquals(bean.unversionedProvider.get(), Long.valueOf(400));
+    }
+
+    @Test
+    public void testOverridingValueInOtherSource() {
+        VersionedConfigSource.of(config).set("tck.config.test.versioned.overridden", "500");
+        assertEquals(bean.overriddenSupplier.get(), Long.valueOf(500));
+
+        // the unversioned source has a higher ordinal, and its change must be observed
+        UnversionedConfigSource.PROPERTIES.put("tck.config.test.versioned.overridden", "600");
+        assertEquals(bean.overriddenSupplier.get(), Long.valueOf(600));
+        UnversionedConfigSource.PROPERTIES.remove("tck.config.test.versioned.overridden");
+        assertEquals(bean.overriddenSupplier.get(), Long.valueOf(500));
+    }
+
+    @Dependent
+    public static class DynamicBean {
+        @Inject
+        @ConfigProperty(name = "tck.config.test.versioned.timeout", defaultValue = "1")
+        Supplier<Long> versionedSupplier;
+
+        @Inject
+        @ConfigProperty(name = "tck.config.test.versioned.timeout", defaultValue = "1")
+        Provider<Long> versionedProvider;
+
+        @Inject
+        @ConfigProperty(name = "tck.config.test.unversioned.timeout", defaultValue = "1")
+        Supplier<Long> unversionedSupplier;
+
+        @Inject
+        @ConfigProperty(name = "tck.config.test.unversioned.timeout", defaultValue = "1")
+        Provider<Long> unversionedProvider;
+
+        @Inject
+        @ConfigProperty(name = "tck.config.test.versioned.overridden", defaultValue = "1")
+        Supplier<Long> overriddenSupplier;
+    }
+
+    public static class UnversionedConfigSource implements ConfigSource {
+        static final Map<String, String> PROPERTIES = new ConcurrentHashMap<>();
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return PROPERTIES.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return PROPERTIES.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return UnversionedConfigSource.class.getSimpleName();
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 600;
+        }
+    }
+}
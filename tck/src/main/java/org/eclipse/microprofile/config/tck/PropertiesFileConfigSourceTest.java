@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.spi.PropertiesFileConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Verify that a {@link PropertiesFileConfigSource} reloads its file incrementally, and only notifies the properties
+ * which changed.
+ */
+public class PropertiesFileConfigSourceTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "PropertiesFileConfigSourceTest.war")
+                .addClasses(PropertiesFileConfigSourceTest.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testReloadNotifiesChangedProperties() throws Exception {
+        Path directory = Files.createTempDirectory("tck-properties");
+        Path file = directory.resolve("config.properties");
+        write(file, "tck.file.host=localhost\ntck.file.port=8080\ntck.file.timeout=10\n");
+        List<Set<String>> changes = new CopyOnWriteArrayList<>();
+        try (PropertiesFileConfigSource source = new PropertiesFileConfigSource(file, Duration.ofMillis(50))) {
+            source.addChangeListener((changed, propertyNames) -> changes.add(propertyNames));
+            long version = source.getVersion();
+            Assert.assertEquals(source.getValue("tck.file.port"), "8080");
+
+            write(file, "tck.file.host=localhost\ntck.file.port=9090\ntck.file.retries=3\n");
+            awaitChanges(source, changes, 1);
+            Assert.assertEquals(changes.get(0),
+                    new HashSet<>(Arrays.asList("tck.file.port", "tck.file.timeout", "tck.file.retries")),
+                    "Only the added, removed and changed properties must be notified");
+            Assert.assertNotEquals(source.getVersion(), version);
+            Assert.assertEquals(source.getValue("tck.file.host"), "localhost");
+            Assert.assertEquals(source.getValue("tck.file.port"), "9090");
+            Assert.assertNull(source.getValue("tck.file.timeout"));
+            Assert.assertEquals(source.getLocation("tck.file.retries"), file.toAbsolutePath() + ":3");
+
+            // rewriting the same content is not a change
+            version = source.getVersion();
+            write(file, "tck.file.host=localhost\n\ntck.file.port=9090\ntck.file.retries=3\n");
+            Thread.sleep(200);
+            source.refresh();
+            source.refresh();
+            Assert.assertEquals(changes.size(), 1, "A reload which changes no property must not be notified");
+            Assert.assertEquals(source.getVersion(), version);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testLocationOfMultiLineAndDuplicateEntries() throws IOException {
+        Path directory = Files.createTempDirectory("tck-properties");
+        Path file = directory.resolve("config.properties");
+        write(file, "# comment\n"
+                + "tck.file.list=a,\\\n"
+                + "    b,\\\n"
+                + "    c\n"
+                + "! other comment\n"
+                + "tck.file.duplicate=first\n"
+                + "tck.file.escaped\\=key=value\n"
+                + "\n"
+                + "tck.file.duplicate=second\n"
+                + "tck.file.hash=a\\\n"
+                + "#b\n"
+                + "tck.file.last=1");
+        try (PropertiesFileConfigSource source = new PropertiesFileConfigSource(file)) {
+            String path = file.toAbsolutePath().toString();
+            Assert.assertEquals(source.getValue("tck.file.list"), "a,b,c");
+            Assert.assertEquals(source.getLocation("tck.file.list"), path + ":2",
+                    "An entry spanning several lines must be located at its first line");
+            Assert.assertEquals(source.getValue("tck.file.duplicate"), "second");
+            Assert.assertEquals(source.getLocation("tck.file.duplicate"), path + ":9",
+                    "A property defined several times must be located at its last definition");
+            Assert.assertEquals(source.getValue("tck.file.escaped=key"), "value");
+            Assert.assertEquals(source.getLocation("tck.file.escaped=key"), path + ":7");
+            Assert.assertEquals(source.getValue("tck.file.hash"), "a#b",
+                    "A continuation line is not a comment line");
+            Assert.assertEquals(source.getLocation("tck.file.hash"), path + ":10");
+            Assert.assertEquals(source.getLocation("tck.file.last"), path + ":12");
+            Assert.assertNull(source.getLocation("tck.file.missing"));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Replace the content of the file atomically, so that a reload never reads a partially written file.
+     */
+    private static void write(Path file, String content) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporary, content.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void awaitChanges(PropertiesFileConfigSource source, List<Set<String>> changes, int count)
+            throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (changes.size() < count) {
+            Assert.assertTrue(System.nanoTime() < deadline, "The change of the file was not detected in time");
+            Thread.sleep(10);
+            source.refresh();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.RefreshableConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Verify that the configuration refreshes a {@link RefreshableConfigSource} in the background.
+ */
+public class RefreshableConfigSourceTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "RefreshableConfigSourceTest.war")
+                .addClasses(RefreshableConfigSourceTest.class, PollingConfigSource.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testRefreshUpdatesValues() throws InterruptedException {
+        PollingConfigSource source = new PollingConfigSource();
+        source.store.put("tck.refresh.endpoint", "http://one");
+        source.load();
+        Config config = ConfigProviderResolver.instance().getBuilder().withSources(source).build();
+        try {
+            Assert.assertEquals(config.getValue("tck.refresh.endpoint", String.class), "http://one");
+
+            source.store.put("tck.refresh.endpoint", "http://two");
+            awaitCondition(() -> "http://two".equals(config.getValue("tck.refresh.endpoint", String.class)));
+            Assert.assertFalse(source.refreshedOn.contains(Thread.currentThread().getName()),
+                    "A lookup must not refresh the configuration source");
+            Assert.assertTrue(source.maxConcurrentRefreshes.get() <= 1,
+                    "The refreshes of a configuration source must not be executed concurrently");
+        } finally {
+            ConfigProviderResolver.instance().releaseConfig(config);
+        }
+    }
+
+    @Test
+    public void testFailedRefreshKeepsDataAndIsRetried() throws InterruptedException {
+        PollingConfigSource source = new PollingConfigSource();
+        source.store.put("tck.refresh.endpoint", "http://one");
+        source.load();
+        Config config = ConfigProviderResolver.instance().getBuilder().withSources(source).build();
+        try {
+            source.failing.set(true);
+            source.store.put("tck.refresh.endpoint", "http://two");
+            int failures = source.failures.get();
+            awaitCondition(() -> source.failures.get() >= failures + 2);
+            Assert.assertEquals(config.getValue("tck.refresh.endpoint", String.class), "http://one");
+
+            source.failing.set(false);
+            awaitCondition(() -> "http://two".equals(config.getValue("tck.refresh.endpoint", String.class)));
+        } finally {
+            ConfigProviderResolver.instance().releaseConfig(config);
+        }
+    }
+
+    @Test
+    public void testRefreshStopsWhenConfigIsReleased() throws InterruptedException {
+        PollingConfigSource source = new PollingConfigSource();
+        Config config = ConfigProviderResolver.instance().getBuilder().withSources(source).build();
+        awaitCondition(() -> source.refreshes.get() >= 2);
+        ConfigProviderResolver.instance().releaseConfig(config);
+
+        // let a refresh which was running during the release complete
+        Thread.sleep(PollingConfigSource.INTERVAL.toMillis() * 2);
+        int refreshes = source.refreshes.get();
+        Thread.sleep(PollingConfigSource.INTERVAL.toMillis() * 5);
+        Assert.assertEquals(source.refreshes.get(), refreshes);
+    }
+
+    @Test
+    public void testRefreshExecutor() throws InterruptedException {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                task -> new Thread(task, "tck-refresh-executor"));
+        PollingConfigSource source = new PollingConfigSource();
+        Config config = ConfigProviderResolver.instance().getBuilder()
+                .withSources(source)
+                .withRefreshExecutor(executor)
+                .build();
+        try {
+            awaitCondition(() -> source.refreshes.get() >= 1);
+            Assert.assertEquals(source.refreshedOn, Collections.singleton("tck-refresh-executor"));
+        } finally {
+            ConfigProviderResolver.instance().releaseConfig(config);
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.nanoTime() < deadline, "The condition was not met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * A {@link RefreshableConfigSource} which copies the content of a backing store on each refresh.
+     */
+    public static class PollingConfigSource implements RefreshableConfigSource {
+        static final Duration INTERVAL = Duration.ofMillis(50);
+
+        final Map<String, String> store = new ConcurrentHashMap<>();
+        final Set<String> refreshedOn = ConcurrentHashMap.newKeySet();
+        final AtomicInteger refreshes = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicBoolean failing = new AtomicBoolean();
+        final AtomicInteger maxConcurrentRefreshes = new AtomicInteger();
+        private final AtomicInteger concurrentRefreshes = new AtomicInteger();
+        private volatile Map<String, String> properties = Collections.emptyMap();
+
+        @Override
+        public void refresh() throws Exception {
+            int concurrent = concurrentRefreshes.incrementAndGet();
+            maxConcurrentRefreshes.accumulateAndGet(concurrent, Math::max);
+            try {
+                if (failing.get()) {
+                    failures.incrementAndGet();
+                    throw new IllegalStateException("The backing store is not available");
+                }
+                load();
+                refreshes.incrementAndGet();
+                refreshedOn.add(Thread.currentThread().getName());
+            } finally {
+                concurrentRefreshes.decrementAndGet();
+            }
+        }
+
+        void load() {
+            properties = Collections.unmodifiableMap(new HashMap<>(store));
+        }
+
+        @Override
+        public Duration getRefreshInterval() {
+            return INTERVAL;
+        }
+
+        @Override
+        public Duration getRefreshJitter() {
+            return Duration.ofMillis(10);
+        }
+
+        @Override
+        public Duration getMaxRefreshBackoff() {
+            return Duration.ofMillis(200);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return PollingConfigSource.class.getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Verify that a {@link ConfigSource} used by several {@link Config} instances is only closed once the last of them is
+ * released.
+ */
+public class SharedConfigSourceTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "SharedConfigSourceTest.war")
+                .addClasses(SharedConfigSourceTest.class, CloseableConfigSource.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testSharedSourceClosedByLastRelease() {
+        CloseableConfigSource source = new CloseableConfigSource();
+        ConfigProviderResolver resolver = ConfigProviderResolver.instance();
+        Config first = resolver.getBuilder().withSources(source).build();
+        Config second = resolver.getBuilder().withSources(source).build();
+
+        resolver.releaseConfig(first);
+        Assert.assertEquals(source.closed.get(), 0, "The source is still used by another Config");
+        Assert.assertEquals(second.getValue("tck.config.test.shared.key", String.class), "sharedValue");
+
+        resolver.releaseConfig(second);
+        Assert.assertEquals(source.closed.get(), 1, "The source must be closed once when the last Config is released");
+    }
+
+    public static class CloseableConfigSource implements ConfigSource, AutoCloseable {
+        private final AtomicInteger closed = new AtomicInteger();
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return Collections.singleton("tck.config.test.shared.key");
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return "tck.config.test.shared.key".equals(propertyName) ? "sharedValue" : null;
+        }
+
+        @Override
+        public String getName() {
+            return CloseableConfigSource.class.getSimpleName();
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Verify that lookups performed concurrently from many virtual threads, each blocked in a {@link ConfigSource}, are
+ * neither serialized by the {@link Config} implementation nor pin their carrier threads.
+ * <p>
+ * Pinning is detected with the {@code jdk.VirtualThreadPinned} Flight Recorder event, which is recorded when a virtual
+ * thread blocks while it cannot be unmounted from its carrier thread, e.g. while the implementation holds a monitor
+ * around the read of a configuration source. The test is skipped if the Java runtime does not support virtual threads,
+ * and only checks that the lookups are not serialized if Flight Recorder is not available.
+ */
+public class VirtualThreadLookupTest extends Arquillian {
+
+    private static final int TASKS = 5_000;
+    private static final int CONCURRENT_READS = 100;
+    private static final long READ_DELAY_MILLIS = 20;
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Deployment
+    public static WebArchive deploy() {
+        return ShrinkWrap
+                .create(WebArchive.class, "VirtualThreadLookupTest.war")
+                .addClasses(VirtualThreadLookupTest.class, SlowConfigSource.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test(timeOut = 60_000)
+    public void testConcurrentBlockingLookups() throws Exception {
+        SlowConfigSource source = new SlowConfigSource();
+        Config config = ConfigProviderResolver.instance().getBuilder()
+                .addDefaultSources()
+                .withSources(source)
+                .build();
+
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        boolean recordPinning = ModuleLayer.boot().findModule("jdk.jfr").isPresent() && FlightRecorder.isAvailable();
+        Recording recording = recordPinning ? startPinningRecording() : null;
+        try {
+            List<Callable<String>> tasks = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                String propertyName = "tck.slow." + (i % 10);
+                tasks.add(() -> config.getValue(propertyName, String.class));
+            }
+            List<Future<String>> results = executor.invokeAll(tasks, 50, TimeUnit.SECONDS);
+
+            for (int i = 0; i < TASKS; i++) {
+                Future<String> result = results.get(i);
+                Assert.assertFalse(result.isCancelled(),
+                        "The lookups did not complete in time, they were probably serialized");
+                Assert.assertEquals(result.get(), "value-" + (i % 10));
+            }
+            Assert.assertTrue(source.maxReadsInFlight.get() >= CONCURRENT_READS,
+                    "At most " + source.maxReadsInFlight.get() + " reads were in flight at the same time, "
+                            + "the lookups were probably serialized");
+            if (recording != null) {
+                assertNotPinned(recording);
+            }
+        } finally {
+            executor.shutdownNow();
+            if (recording != null) {
+                recording.close();
+            }
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // Java 21 and later, invoked reflectively as the TCK is compiled for older releases
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new SkipException("Virtual threads are not supported by this Java runtime");
+        }
+    }
+
+    private static Recording startPinningRecording() {
+        Recording recording = new Recording();
+        // record every pinned park, and not only the ones longer than the default threshold
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+        recording.start();
+        return recording;
+    }
+
+    private static void assertNotPinned(Recording recording) throws Exception {
+        recording.stop();
+        Path file = Files.createTempFile("VirtualThreadLookupTest", ".jfr");
+        try {
+            recording.dump(file);
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals(PINNED_EVENT) && isLookup(event)) {
+                    Assert.fail("A virtual thread was pinned while blocked in a lookup: " + event);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean isLookup(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith(VirtualThreadLookupTest.class.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A {@link ConfigSource} which blocks on each read, as a source reading from a remote store would, and records the
+     * maximum number of reads in flight at the same time. The first reads wait until {@code CONCURRENT_READS} reads
+     * are in flight, which only happens if the lookups are performed concurrently; if they are not, the first read
+     * gives up after a timeout and the following reads no longer wait.
+     */
+    public static class SlowConfigSource implements ConfigSource {
+        final AtomicInteger maxReadsInFlight = new AtomicInteger();
+        private final AtomicInteger readsInFlight = new AtomicInteger();
+        private final CountDownLatch concurrentReads = new CountDownLatch(CONCURRENT_READS);
+        private final AtomicBoolean timedOut = new AtomicBoolean();
+
+        @Override
+        public String getValue(String propertyName) {
+            if (!propertyName.startsWith("tck.slow.")) {
+                return null;
+            }
+            maxReadsInFlight.accumulateAndGet(readsInFlight.incrementAndGet(), Math::max);
+            try {
+                concurrentReads.countDown();
+                if (!timedOut.get() && !concurrentReads.await(5, TimeUnit.SECONDS)) {
+                    timedOut.set(true);
+                }
+                Thread.sleep(READ_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                readsInFlight.decrementAndGet();
+            }
+            return "value-" + propertyName.substring("tck.slow.".length());
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            Set<String> names = new HashSet<>();
+            for (int i = 0; i < 10; i++) {
+                names.add("tck.slow." + i);
+            }
+            return names;
+        }
+
+        @Override
+        public String getName() {
+            return SlowConfigSource.class.getSimpleName();
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 500;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck.broken;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.ShouldThrowException;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+/**
+ * Verify that a missing nested group of a {@code ConfigProperties} bean, which is not {@code Optional}, causes a
+ * deployment failure, even if all the properties of the group have default values.
+ */
+public class ConfigPropertiesMissingGroupInjectionTest extends Arquillian {
+
+    @Deployment
+    @ShouldThrowException(DeploymentException.class)
+    public static WebArchive deploy() {
+        JavaArchive testJar = ShrinkWrap
+                .create(JavaArchive.class, "ConfigPropertiesMissingGroupTest.jar")
+                .addClasses(ConfigPropertiesBeanMissingGroup.class, ConfigPropertiesBeanMissingGroup.Limits.class)
+                .addAsManifestResource(new StringAsset("shop.name=Acme\n"), "microprofile-config.properties")
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .as(JavaArchive.class);
+
+        return ShrinkWrap
+                .create(WebArchive.class, "ConfigPropertiesMissingGroupTest.war")
+                .addAsLibrary(testJar);
+    }
+
+    @Test
+    public void test() {
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.config.tck.configsources;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * A {@link ConfigSource} whose properties are changed by the tests, which increments its
+ * {@linkplain #getVersion() version} on each change and supports {@linkplain #snapshot() snapshots}.
+ * <p>
+ * The properties are held in an immutable map, replaced as a whole together with the version, so a change of several
+ * properties is observed at once. When this configuration source is registered as a service, the instance used by a
+ * configuration is obtained with {@link #of(Config)}.
+ */
+public class VersionedConfigSource implements ConfigSource {
+
+    private final AtomicReference<State> state = new AtomicReference<>(new State(0, Collections.emptyMap()));
+
+    /**
+     * Return the instance of this configuration source used by the specified configuration.
+     *
+     * @param config
+     *            the configuration
+     * @return the configuration source
+     */
+    public static VersionedConfigSource of(Config config) {
+        for (ConfigSource source : config.getConfigSources()) {
+            if (source instanceof VersionedConfigSource) {
+                return (VersionedConfigSource) source;
+            }
+        }
+        throw new IllegalStateException("No VersionedConfigSource is registered");
+    }
+
+    /**
+     * Add or change a single property, keeping the other ones.
+     *
+     * @param propertyName
+     *            the property name
+     * @param value
+     *            the new value
+     */
+    public void set(String propertyName, String value) {
+        state.updateAndGet(current -> {
+            Map<String, String> properties = new HashMap<>(current.properties);
+            properties.put(propertyName, value);
+            return new State(current.version + 1, Collections.unmodifiableMap(properties));
+        });
+    }
+
+    /**
+     * Replace all the properties at once.
+     *
+     * @param namesAndValues
+     *            the names and values of the new properties, alternately
+     */
+    public void replace(String... namesAndValues) {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            properties.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        state.updateAndGet(current -> new State(current.version + 1, Collections.unmodifiableMap(properties)));
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return state.get().properties.keySet();
+    }
+
+    @Override
+    public String getValue(String propertyName) {
+        return state.get().properties.get(propertyName);
+    }
+
+    @Override
+    public long getVersion() {
+        return state.get().version;
+    }
+
+    @Override
+    public ConfigSource snapshot() {
+        return state.get();
+    }
+
+    @Override
+    public String getName() {
+        return VersionedConfigSource.class.getSimpleName();
+    }
+
+    @Override
+    public int getOrdinal() {
+        return 500;
+    }
+
+    private static final class State implements ConfigSource {
+        private final long version;
+        private final Map<String, String> properties;
+
+        private State(long version, Map<String, String> properties) {
+            this.version = version;
+            this.properties = properties;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public String getName() {
+            return VersionedConfigSource.class.getSimpleName();
+        }
+
+        @Override
+        public int getOrdinal() {
+            return 500;
+        }
+    }
+}